@@ -0,0 +1,127 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.planning.dto.DayResponse;
+import be.aboutcoding.simpleplanningtool.planning.dto.PlanningResponse;
+import be.aboutcoding.simpleplanningtool.planning.dto.SiteViewResponse;
+import be.aboutcoding.simpleplanningtool.planning.dto.WeekResponse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copy of the two-pass mapping GetPlanning and PlanningResponseMapper did before they were merged, kept as the
+ * baseline for {@link PlanningResponseMapperBenchmark}.
+ */
+class LegacyPlanningResponseMapper {
+
+    record SiteView(Long id, String name, Integer durationInDays, String status) {
+    }
+
+    record Workday(LocalDate date, Integer week, String dayOfWeek, List<SiteView> sites) {
+    }
+
+    record Planning(LocalDate from, LocalDate until, List<Workday> workdays) {
+    }
+
+    PlanningResponse toResponse(LocalDate from, LocalDate until, List<PlanningRow> planningData) {
+        return toResponse(toPlanning(from, until, planningData));
+    }
+
+    // What GetPlanning used to do
+    private Planning toPlanning(LocalDate from, LocalDate until, List<PlanningRow> planningData) {
+        Map<LocalDate, WorkdayData> workdaysMap = new LinkedHashMap<>();
+
+        for (PlanningRow data : planningData) {
+            LocalDate workdayDate = data.getWorkdayDate();
+
+            WorkdayData workdayData = workdaysMap.get(workdayDate);
+            if (workdayData == null) {
+                workdayData = new WorkdayData(
+                        workdayDate,
+                        data.getWeekNumber(),
+                        data.dayOfWeek(),
+                        new ArrayList<>()
+                );
+                workdaysMap.put(workdayDate, workdayData);
+            }
+
+            if (data.getSiteId() != null) {
+                SiteView siteView = new SiteView(
+                        data.getSiteId(),
+                        data.getSiteName(),
+                        data.getDurationInDays(),
+                        data.getSiteStatus()
+                );
+                workdayData.sites.add(siteView);
+            }
+        }
+
+        List<Workday> workdays = workdaysMap.values().stream()
+                .map(wd -> new Workday(wd.date, wd.week, wd.dayOfWeek, wd.sites))
+                .toList();
+
+        return new Planning(from, until, workdays);
+    }
+
+    // What PlanningResponseMapper used to do
+    private PlanningResponse toResponse(Planning planning) {
+        Map<Integer, List<Workday>> weekGroups = new LinkedHashMap<>();
+
+        for (Workday workday : planning.workdays()) {
+            weekGroups
+                    .computeIfAbsent(workday.week(), k -> new ArrayList<>())
+                    .add(workday);
+        }
+
+        List<WeekResponse> weeks = new ArrayList<>();
+        for (Map.Entry<Integer, List<Workday>> entry : weekGroups.entrySet()) {
+            Map<String, Workday> dayMap = new HashMap<>();
+            for (Workday workday : entry.getValue()) {
+                dayMap.put(workday.dayOfWeek(), workday);
+            }
+
+            weeks.add(new WeekResponse(
+                    entry.getKey(),
+                    createDayResponse(dayMap.get("Monday")),
+                    createDayResponse(dayMap.get("Tuesday")),
+                    createDayResponse(dayMap.get("Wednesday")),
+                    createDayResponse(dayMap.get("Thursday")),
+                    createDayResponse(dayMap.get("Friday")),
+                    createDayResponse(dayMap.get("Saturday")),
+                    createDayResponse(dayMap.get("Sunday"))
+            ));
+        }
+
+        return new PlanningResponse(planning.from(), planning.until(), weeks);
+    }
+
+    private DayResponse createDayResponse(Workday workday) {
+        if (workday == null) {
+            return null;
+        }
+
+        List<SiteViewResponse> sites = workday.sites().stream()
+                .map(site -> new SiteViewResponse(site.id(), site.name(), site.durationInDays(), site.status()))
+                .toList();
+
+        return new DayResponse(workday.date(), sites);
+    }
+
+    private static class WorkdayData {
+        LocalDate date;
+        Integer week;
+        String dayOfWeek;
+        List<SiteView> sites;
+
+        WorkdayData(LocalDate date, Integer week, String dayOfWeek, List<SiteView> sites) {
+            this.date = date;
+            this.week = week;
+            this.dayOfWeek = dayOfWeek;
+            this.sites = sites;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.planning.model.MonthlyOverview;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MonthlyOverviewMapper#map} on week rows of get_week_planning_overview, four weeks per month.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonthlyOverviewMapperBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Param({"0", "10"})
+    public int sitesPerWeek;
+
+    private final MonthlyOverviewMapper mapper = new MonthlyOverviewMapper();
+
+    private List<WeekPlanningOverviewProjection> projections;
+
+    @Setup
+    public void setUp() {
+        projections = new ArrayList<>(rows);
+        long siteId = 1;
+
+        for (int week = 0; week < rows; week++) {
+            int month = week / 4;
+            Long[] siteIds = new Long[sitesPerWeek];
+            String[] siteNames = new String[sitesPerWeek];
+            for (int i = 0; i < sitesPerWeek; i++, siteId++) {
+                siteIds[i] = siteId;
+                siteNames[i] = "Site " + siteId;
+            }
+            projections.add(new WeekRow(month, "Month " + month, week % 53 + 1, siteIds, siteNames,
+                    (long) sitesPerWeek));
+        }
+    }
+
+    @Benchmark
+    public List<MonthlyOverview> map() {
+        return mapper.map(projections);
+    }
+
+    record WeekRow(
+            Integer month,
+            String monthName,
+            Integer isoWeek,
+            Long[] plannedSiteIds,
+            String[] plannedSiteNames,
+            Long sitesCount
+    ) implements WeekPlanningOverviewProjection {
+
+        @Override
+        public Integer getMonth() {
+            return month;
+        }
+
+        @Override
+        public String getMonthName() {
+            return monthName;
+        }
+
+        @Override
+        public Integer getIsoWeek() {
+            return isoWeek;
+        }
+
+        @Override
+        public Long[] getPlannedSiteIds() {
+            return plannedSiteIds;
+        }
+
+        @Override
+        public String[] getPlannedSiteNames() {
+            return plannedSiteNames;
+        }
+
+        @Override
+        public Long getSitesCount() {
+            return sitesCount;
+        }
+    }
+}
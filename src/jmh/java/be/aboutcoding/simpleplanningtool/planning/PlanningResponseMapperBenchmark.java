@@ -0,0 +1,64 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.planning.dto.PlanningResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass {@link PlanningResponseMapper} with the two-pass mapping it replaced. The number of
+ * weeks follows from the requested number of rows and sites per day.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlanningResponseMapperBenchmark {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Param({"1", "10"})
+    public int sitesPerDay;
+
+    private final PlanningResponseMapper mapper = new PlanningResponseMapper();
+    private final LegacyPlanningResponseMapper legacyMapper = new LegacyPlanningResponseMapper();
+
+    private List<PlanningRow> planningRows;
+    private List<PlanningDataProjection> projections;
+    private LocalDate until;
+
+    @Setup
+    public void setUp() {
+        int weeks = Math.max(1, rows / (7 * sitesPerDay));
+        planningRows = PlanningRow.generate(MONDAY, weeks, sitesPerDay);
+        projections = List.copyOf(planningRows);
+        until = MONDAY.plusWeeks(weeks).minusDays(1);
+    }
+
+    @Benchmark
+    public PlanningResponse singlePass() {
+        return mapper.toResponse(MONDAY, until, projections);
+    }
+
+    @Benchmark
+    public PlanningResponse legacy() {
+        return legacyMapper.toResponse(MONDAY, until, planningRows);
+    }
+}
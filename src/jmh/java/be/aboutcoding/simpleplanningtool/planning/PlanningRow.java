@@ -0,0 +1,76 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * In-memory stand-in for a get_planning row. Also carries the day name the database used to send, which the
+ * legacy mapper needs.
+ */
+record PlanningRow(
+        LocalDate workdayDate,
+        Integer weekNumber,
+        String dayOfWeek,
+        Long siteId,
+        String siteName,
+        Integer durationInDays,
+        String siteStatus
+) implements PlanningDataProjection {
+
+    @Override
+    public LocalDate getWorkdayDate() {
+        return workdayDate;
+    }
+
+    @Override
+    public Integer getWeekNumber() {
+        return weekNumber;
+    }
+
+    @Override
+    public Long getSiteId() {
+        return siteId;
+    }
+
+    @Override
+    public String getSiteName() {
+        return siteName;
+    }
+
+    @Override
+    public Integer getDurationInDays() {
+        return durationInDays;
+    }
+
+    @Override
+    public String getSiteStatus() {
+        return siteStatus;
+    }
+
+    /**
+     * Builds the rows get_planning would return for whole weeks starting on the given Monday, with the same number
+     * of sites on every day.
+     */
+    static List<PlanningRow> generate(LocalDate monday, int weeks, int sitesPerDay) {
+        List<PlanningRow> rows = new ArrayList<>();
+        long siteId = 1;
+
+        for (LocalDate date = monday; date.isBefore(monday.plusWeeks(weeks)); date = date.plusDays(1)) {
+            int weekNumber = date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+            String dayName = date.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+
+            if (sitesPerDay == 0) {
+                rows.add(new PlanningRow(date, weekNumber, dayName, null, null, null, null));
+            }
+            for (int i = 0; i < sitesPerDay; i++, siteId++) {
+                rows.add(new PlanningRow(date, weekNumber, dayName, siteId, "Site " + siteId, 5, "OPEN"));
+            }
+        }
+
+        return rows;
+    }
+}
@@ -0,0 +1,125 @@
+package be.aboutcoding.simpleplanningtool.planning.dayplanning;
+
+import be.aboutcoding.simpleplanningtool.planning.model.DayOverview;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PlannedSiteMapper#toDayOverview} on the site-worker rows of get_active_sites_on_date, where
+ * every site repeats once per linked worker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlannedSiteMapperBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 21);
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Param({"1", "5"})
+    public int workersPerSite;
+
+    private final PlannedSiteMapper mapper = new PlannedSiteMapper();
+
+    private List<RawPlannedSiteProjection> projections;
+
+    @Setup
+    public void setUp() {
+        projections = new ArrayList<>(rows);
+
+        for (int row = 0; row < rows; row++) {
+            long siteId = row / workersPerSite + 1;
+            long workerId = row % workersPerSite + 1;
+            projections.add(new SiteWorkerRow(siteId, "Site " + siteId, DATE.minusDays(2), 5, DATE.plusDays(2), 2,
+                    "OPEN", workerId, "Worker", "#" + workerId));
+        }
+    }
+
+    @Benchmark
+    public DayOverview toDayOverview() {
+        return mapper.toDayOverview(DATE, projections);
+    }
+
+    record SiteWorkerRow(
+            Long siteId,
+            String siteName,
+            LocalDate executionDate,
+            Integer durationInDays,
+            LocalDate endDate,
+            Integer daysRemaining,
+            String siteStatus,
+            Long workerId,
+            String workerFirstName,
+            String workerLastName
+    ) implements RawPlannedSiteProjection {
+
+        @Override
+        public Long getSiteId() {
+            return siteId;
+        }
+
+        @Override
+        public String getSiteName() {
+            return siteName;
+        }
+
+        @Override
+        public LocalDate getExecutionDate() {
+            return executionDate;
+        }
+
+        @Override
+        public Integer getDurationInDays() {
+            return durationInDays;
+        }
+
+        @Override
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        @Override
+        public Integer getDaysRemaining() {
+            return daysRemaining;
+        }
+
+        @Override
+        public String getSiteStatus() {
+            return siteStatus;
+        }
+
+        @Override
+        public Long getWorkerId() {
+            return workerId;
+        }
+
+        @Override
+        public String getWorkerFirstName() {
+            return workerFirstName;
+        }
+
+        @Override
+        public String getWorkerLastName() {
+            return workerLastName;
+        }
+    }
+}
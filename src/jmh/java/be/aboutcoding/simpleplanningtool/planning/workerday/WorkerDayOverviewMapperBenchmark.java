@@ -0,0 +1,57 @@
+package be.aboutcoding.simpleplanningtool.planning.workerday;
+
+import be.aboutcoding.simpleplanningtool.planning.dto.WorkerDayOverviewResponse;
+import be.aboutcoding.simpleplanningtool.planning.model.WorkerAvailability;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WorkerDayOverviewMapper#toResponse} on one availability per worker, half of them linked to a site.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkerDayOverviewMapperBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 21);
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private final WorkerDayOverviewMapper mapper = new WorkerDayOverviewMapper();
+
+    private List<WorkerAvailability> availability;
+
+    @Setup
+    public void setUp() {
+        availability = new ArrayList<>(rows);
+
+        for (long workerId = 1; workerId <= rows; workerId++) {
+            boolean linked = workerId % 2 == 0;
+            availability.add(new WorkerAvailability(workerId, "Worker", "#" + workerId, linked ? workerId : null,
+                    linked ? "Site " + workerId : null, linked ? DATE.plusDays(3) : null));
+        }
+    }
+
+    @Benchmark
+    public WorkerDayOverviewResponse toResponse() {
+        return mapper.toResponse(DATE, availability);
+    }
+}
@@ -0,0 +1,57 @@
+package be.aboutcoding.simpleplanningtool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to a replica as soon as datasource.replica.url is set, everything else keeps going
+ * to spring.datasource. The lazy proxy only picks a pool once the first statement runs, by then the transaction
+ * manager has marked the connection read-only. Right after a planning change, read-only transactions stay on the
+ * primary until the replica caught up, see {@link ReadYourWritesDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replica.url")
+public class DataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties replicaProperties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.url())
+                .username(replicaProperties.username())
+                .password(replicaProperties.password())
+                .build();
+    }
+
+    @Bean
+    public ReadYourWritesDataSource readOnlyDataSource(HikariDataSource primaryDataSource,
+                                                       HikariDataSource replicaDataSource) {
+        return new ReadYourWritesDataSource(replicaDataSource, primaryDataSource);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadYourWritesDataSource readOnlyDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return dataSource;
+    }
+}
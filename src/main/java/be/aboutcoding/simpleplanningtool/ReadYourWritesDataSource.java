@@ -0,0 +1,83 @@
+package be.aboutcoding.simpleplanningtool;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The replica side of the read-only routing. Once this instance committed a planning change, read-only transactions
+ * only get a replica connection after the replica replayed that commit, until then they read from the primary.
+ * Otherwise a read right after the commit could fill the planning cache, or answer for the new ETag, with the data
+ * from before the change.
+ */
+public class ReadYourWritesDataSource extends DelegatingDataSource {
+
+    private final DataSource primaryDataSource;
+    private final JdbcTemplate primaryJdbcTemplate;
+
+    // WAL position of the last change committed through this instance, 0 once the replica has replayed it
+    private final AtomicLong awaitedLsn = new AtomicLong();
+
+    public ReadYourWritesDataSource(DataSource replicaDataSource, DataSource primaryDataSource) {
+        super(replicaDataSource);
+        this.primaryDataSource = primaryDataSource;
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+    }
+
+    /**
+     * Runs before the other listeners, which evict the cache and change the ETag, so no read can come in between.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlanningChanged(PlanningChangedEvent event) {
+        String lsn = primaryJdbcTemplate.queryForObject("SELECT CAST(pg_current_wal_lsn() AS TEXT)", String.class);
+        awaitedLsn.accumulateAndGet(parseLsn(lsn), Math::max);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long awaited = awaitedLsn.get();
+        if (awaited == 0) {
+            return super.getConnection();
+        }
+
+        Connection replica = super.getConnection();
+        if (hasReplayed(replica, awaited)) {
+            awaitedLsn.compareAndSet(awaited, 0);
+            return replica;
+        }
+        replica.close();
+        return primaryDataSource.getConnection();
+    }
+
+    // A server that is not a standby has no replay position, which counts as not replayed
+    private boolean hasReplayed(Connection replica, long lsn) throws SQLException {
+        try (PreparedStatement statement = replica.prepareStatement(
+                "SELECT pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn)")) {
+            statement.setString(1, formatLsn(lsn));
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    // PostgreSQL writes a WAL position as two hexadecimal 32-bit halves, e.g. 16/B374D848
+    static long parseLsn(String lsn) {
+        String[] halves = lsn.split("/");
+        return Long.parseLong(halves[0], 16) << 32 | Long.parseLong(halves[1], 16);
+    }
+
+    static String formatLsn(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+}
@@ -0,0 +1,10 @@
+package be.aboutcoding.simpleplanningtool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection to a read replica of the primary database. Pool settings go under datasource.replica.hikari.
+ */
+@ConfigurationProperties("datasource.replica")
+public record ReplicaDataSourceProperties(String url, String username, String password) {
+}
@@ -1,18 +1,39 @@
 package be.aboutcoding.simpleplanningtool;
 
+import be.aboutcoding.simpleplanningtool.bulkhead.BulkheadInterceptor;
+import be.aboutcoding.simpleplanningtool.planning.revision.RevisionETagInterceptor;
+import be.aboutcoding.simpleplanningtool.site.SiteApi;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfiguration implements WebMvcConfigurer {
 
+    private final RevisionETagInterceptor revisionETagInterceptor;
+    private final BulkheadInterceptor bulkheadInterceptor;
+
+    public WebConfiguration(RevisionETagInterceptor revisionETagInterceptor, BulkheadInterceptor bulkheadInterceptor) {
+        this.revisionETagInterceptor = revisionETagInterceptor;
+        this.bulkheadInterceptor = bulkheadInterceptor;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("http://localhost:4200") // React/Vite typical ports
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(SiteApi.NEXT_CURSOR_HEADER, HttpHeaders.ETAG)
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // A 304 does not need a bulkhead permit
+        registry.addInterceptor(revisionETagInterceptor);
+        registry.addInterceptor(bulkheadInterceptor);
+    }
 }
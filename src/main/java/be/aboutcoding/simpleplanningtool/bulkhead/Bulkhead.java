@@ -0,0 +1,20 @@
+package be.aboutcoding.simpleplanningtool.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts the annotated endpoint, or all endpoints of the annotated controller, in a named bulkhead. Endpoints in the
+ * same bulkhead share a limited number of concurrent requests, see {@link BulkheadProperties}. A method level
+ * annotation overrides the one on its controller.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    String value();
+}
@@ -0,0 +1,8 @@
+package be.aboutcoding.simpleplanningtool.bulkhead;
+
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String bulkhead) {
+        super("No free slot in bulkhead " + bulkhead);
+    }
+}
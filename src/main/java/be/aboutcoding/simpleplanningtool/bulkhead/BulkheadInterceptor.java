@@ -0,0 +1,70 @@
+package be.aboutcoding.simpleplanningtool.bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of concurrent requests per {@link Bulkhead}. The permit is taken before the controller opens its
+ * transaction, so a burst on one bulkhead cannot take all database connections away from the others.
+ */
+@Component
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final BulkheadProperties bulkheadProperties;
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    public BulkheadInterceptor(BulkheadProperties bulkheadProperties) {
+        this.bulkheadProperties = bulkheadProperties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        Bulkhead bulkhead = findBulkhead(handlerMethod);
+        if (bulkhead == null) {
+            return true;
+        }
+
+        Semaphore semaphore = semaphores.computeIfAbsent(bulkhead.value(),
+                name -> new Semaphore(bulkheadProperties.limitFor(name), true));
+        if (!semaphore.tryAcquire(bulkheadProperties.maxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new BulkheadFullException(bulkhead.value());
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, semaphore);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof Semaphore semaphore) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            semaphore.release();
+        }
+    }
+
+    private Bulkhead findBulkhead(HandlerMethod handlerMethod) {
+        Bulkhead bulkhead = handlerMethod.getMethodAnnotation(Bulkhead.class);
+        if (bulkhead != null) {
+            return bulkhead;
+        }
+        return AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Bulkhead.class);
+    }
+}
@@ -0,0 +1,23 @@
+package be.aboutcoding.simpleplanningtool.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param maxWait      how long a request waits for a free slot before it is rejected with 503
+ * @param defaultLimit concurrent requests for a bulkhead without its own limit
+ * @param limits       concurrent requests per bulkhead name
+ */
+@ConfigurationProperties("bulkhead")
+public record BulkheadProperties(
+        @DefaultValue("500ms") Duration maxWait,
+        @DefaultValue("10") int defaultLimit,
+        @DefaultValue Map<String, Integer> limits) {
+
+    public int limitFor(String bulkhead) {
+        return limits.getOrDefault(bulkhead, defaultLimit);
+    }
+}
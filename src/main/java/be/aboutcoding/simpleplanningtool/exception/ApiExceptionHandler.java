@@ -1,9 +1,14 @@
 package be.aboutcoding.simpleplanningtool.exception;
 
+import be.aboutcoding.simpleplanningtool.bulkhead.BulkheadFullException;
+import be.aboutcoding.simpleplanningtool.planning.PlanningRangeTooLargeException;
 import be.aboutcoding.simpleplanningtool.planning.WeekInThePastException;
+import be.aboutcoding.simpleplanningtool.planning.changes.TooManySubscribersException;
+import be.aboutcoding.simpleplanningtool.site.InvalidSiteCursorException;
 import be.aboutcoding.simpleplanningtool.site.SiteHasNoExecutionDateException;
 import be.aboutcoding.simpleplanningtool.site.SiteNotFoundException;
 import be.aboutcoding.simpleplanningtool.worker.WorkerNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -32,11 +37,35 @@ public class ApiExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     }
 
+    @ExceptionHandler(PlanningRangeTooLargeException.class)
+    public ResponseEntity<Void> handlePlanningRangeTooLargeException(PlanningRangeTooLargeException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Void> handleBulkheadFullException(BulkheadFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+
+    @ExceptionHandler(TooManySubscribersException.class)
+    public ResponseEntity<Void> handleTooManySubscribersException(TooManySubscribersException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+    }
+
     @ExceptionHandler(SiteHasNoExecutionDateException.class)
     public ResponseEntity<Void> handleSiteHasNoExecutionDateException(SiteHasNoExecutionDateException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     }
 
+    @ExceptionHandler(InvalidSiteCursorException.class)
+    public ResponseEntity<Void> handleInvalidSiteCursorException(InvalidSiteCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,37 @@
+package be.aboutcoding.simpleplanningtool.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Records how many rows our repository queries return. Spring Boot already times every repository call as
+ * spring.data.repository.invocations, together they tell whether a slow query is slow or just big.
+ */
+@Aspect
+@Component
+public class RepositoryRowCountAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public RepositoryRowCountAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @AfterReturning(
+            pointcut = "execution(java.util.Collection+ be.aboutcoding.simpleplanningtool..*Repository.*(..))",
+            returning = "rows")
+    public void recordRowCount(JoinPoint joinPoint, Collection<?> rows) {
+        DistributionSummary.builder("planning.repository.rows")
+                .description("Number of rows returned by a repository query")
+                .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .register(meterRegistry)
+                .record(rows.size());
+    }
+}
@@ -1,24 +1,26 @@
 package be.aboutcoding.simpleplanningtool.planning;
 
-import be.aboutcoding.simpleplanningtool.planning.dto.IdleWorkersResponse;
-import be.aboutcoding.simpleplanningtool.worker.Worker;
-import be.aboutcoding.simpleplanningtool.worker.WorkerRepository;
+import be.aboutcoding.simpleplanningtool.planning.model.WorkerAvailability;
+import be.aboutcoding.simpleplanningtool.planning.workerday.GetWorkerAvailability;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Component
+@Timed("planning.usecase")
 public class GetIdleWorkers {
 
-    private final WorkerRepository workerRepository;
+    private final GetWorkerAvailability getWorkerAvailability;
 
-    public GetIdleWorkers(WorkerRepository workerRepository) {
-        this.workerRepository = workerRepository;
+    public GetIdleWorkers(GetWorkerAvailability getWorkerAvailability) {
+        this.getWorkerAvailability = getWorkerAvailability;
     }
 
-    public List<Worker> execute(LocalDate date) {
-        return workerRepository.findIdleWorkersOnDate(date);
-
+    public List<WorkerAvailability> execute(LocalDate date) {
+        return getWorkerAvailability.execute(date).stream()
+                .filter(WorkerAvailability::isIdle)
+                .toList();
     }
 }
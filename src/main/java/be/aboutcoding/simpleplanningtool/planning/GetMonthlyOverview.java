@@ -1,23 +1,37 @@
 package be.aboutcoding.simpleplanningtool.planning;
 
+import be.aboutcoding.simpleplanningtool.planning.cache.PlanningCache;
 import be.aboutcoding.simpleplanningtool.planning.model.MonthlyOverview;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 
 @Component
+@Timed("planning.usecase")
 public class GetMonthlyOverview {
 
     private final PlanningRepository planningRepository;
     private final MonthlyOverviewMapper mapper;
+    private final PlanningCache planningCache;
 
-    public GetMonthlyOverview(PlanningRepository planningRepository, MonthlyOverviewMapper mapper) {
+    public GetMonthlyOverview(PlanningRepository planningRepository, MonthlyOverviewMapper mapper,
+                              PlanningCache planningCache) {
         this.planningRepository = planningRepository;
         this.mapper = mapper;
+        this.planningCache = planningCache;
     }
 
     public List<MonthlyOverview> execute() {
-        List<WeekPlanningOverviewProjection> rows = planningRepository.getWeekPlanningOverview();
-        return mapper.map(rows);
+        // The overview covers the current month and the 2 months after it
+        LocalDate from = LocalDate.now().withDayOfMonth(1);
+        LocalDate until = from.plusMonths(2).with(TemporalAdjusters.lastDayOfMonth());
+
+        return planningCache.get("monthly-overview", from, until, () -> {
+            List<WeekPlanningOverviewProjection> rows = planningRepository.getWeekPlanningOverview();
+            return mapper.map(rows);
+        });
     }
 }
@@ -0,0 +1,91 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.planning.dayplanning.DayPlanningFlowController;
+import be.aboutcoding.simpleplanningtool.planning.dto.DayOverviewResponse;
+import be.aboutcoding.simpleplanningtool.planning.dto.IdleWorkersResponse;
+import be.aboutcoding.simpleplanningtool.planning.dto.PlannerDashboardResponse;
+import be.aboutcoding.simpleplanningtool.planning.dto.WorkerDayOverviewResponse;
+import be.aboutcoding.simpleplanningtool.planning.model.WorkerAvailability;
+import be.aboutcoding.simpleplanningtool.planning.workerday.GetWorkerAvailability;
+import be.aboutcoding.simpleplanningtool.planning.workerday.WorkerDayOverviewMapper;
+import be.aboutcoding.simpleplanningtool.site.SiteRepository;
+import be.aboutcoding.simpleplanningtool.site.SiteStatus;
+import be.aboutcoding.simpleplanningtool.site.dto.OpenSiteResponse;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Everything the planner sees on page load for one date. The three queries run at the same time, each in its own
+ * read-only transaction on its own connection, so the dashboard is as slow as its slowest part. Idle workers and
+ * the worker day overview are both derived from the same worker availability.
+ */
+@Component
+@Timed("planning.usecase")
+public class GetPlannerDashboard {
+
+    // Same as the default page size of /sites/unplanned
+    private static final int UNPLANNED_SITES_LIMIT = 100;
+
+    private final DayPlanningFlowController dayPlanningFlowController;
+    private final GetWorkerAvailability getWorkerAvailability;
+    private final WorkerDayOverviewMapper workerDayOverviewMapper;
+    private final SiteRepository siteRepository;
+    private final AsyncTaskExecutor taskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public GetPlannerDashboard(DayPlanningFlowController dayPlanningFlowController,
+                               GetWorkerAvailability getWorkerAvailability,
+                               WorkerDayOverviewMapper workerDayOverviewMapper, SiteRepository siteRepository,
+                               AsyncTaskExecutor taskExecutor, PlatformTransactionManager transactionManager) {
+        this.dayPlanningFlowController = dayPlanningFlowController;
+        this.getWorkerAvailability = getWorkerAvailability;
+        this.workerDayOverviewMapper = workerDayOverviewMapper;
+        this.siteRepository = siteRepository;
+        this.taskExecutor = taskExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public PlannerDashboardResponse execute(LocalDate date) {
+        CompletableFuture<DayOverviewResponse> dayOverview = inReadOnlyTransaction(
+                () -> DayOverviewResponse.from(dayPlanningFlowController.execute(date)));
+        CompletableFuture<List<WorkerAvailability>> availability = inReadOnlyTransaction(
+                () -> getWorkerAvailability.execute(date));
+        CompletableFuture<List<OpenSiteResponse>> unplannedSites = inReadOnlyTransaction(this::findUnplannedSites);
+
+        List<WorkerAvailability> workers = availability.join();
+        List<WorkerAvailability> idleWorkers = workers.stream()
+                .filter(WorkerAvailability::isIdle)
+                .toList();
+        WorkerDayOverviewResponse workerDayOverview = workerDayOverviewMapper.toResponse(date, workers);
+
+        return new PlannerDashboardResponse(
+                date,
+                dayOverview.join(),
+                IdleWorkersResponse.from(date, idleWorkers),
+                workerDayOverview,
+                unplannedSites.join()
+        );
+    }
+
+    private List<OpenSiteResponse> findUnplannedSites() {
+        return siteRepository.findByStatusAndExecutionDateIsNullOrderByCreationDateAscIdAsc(
+                        SiteStatus.OPEN, Limit.of(UNPLANNED_SITES_LIMIT)).stream()
+                .map(OpenSiteResponse::from)
+                .toList();
+    }
+
+    // Entities are mapped to responses before the transaction ends, so nothing lazy is touched afterwards
+    private <T> CompletableFuture<T> inReadOnlyTransaction(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), taskExecutor);
+    }
+}
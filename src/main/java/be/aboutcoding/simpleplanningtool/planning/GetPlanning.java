@@ -1,80 +1,73 @@
 package be.aboutcoding.simpleplanningtool.planning;
 
-import be.aboutcoding.simpleplanningtool.planning.model.Planning;
-import be.aboutcoding.simpleplanningtool.planning.model.SiteView;
-import be.aboutcoding.simpleplanningtool.planning.model.Workday;
+import be.aboutcoding.simpleplanningtool.planning.cache.PlanningCache;
+import be.aboutcoding.simpleplanningtool.planning.dto.PlanningResponse;
 import be.aboutcoding.simpleplanningtool.site.SiteRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 @Component
+@Timed("planning.usecase")
 public class GetPlanning {
 
     private final SiteRepository siteRepository;
+    private final PlanningResponseMapper planningResponseMapper;
+    private final PlanningCache planningCache;
+    private final PlanningProperties planningProperties;
+    private final AsyncTaskExecutor taskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public GetPlanning(SiteRepository siteRepository) {
+    public GetPlanning(SiteRepository siteRepository, PlanningResponseMapper planningResponseMapper,
+                       PlanningCache planningCache, PlanningProperties planningProperties,
+                       AsyncTaskExecutor taskExecutor, PlatformTransactionManager transactionManager) {
         this.siteRepository = siteRepository;
+        this.planningResponseMapper = planningResponseMapper;
+        this.planningCache = planningCache;
+        this.planningProperties = planningProperties;
+        this.taskExecutor = taskExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
-    public Planning execute(LocalDate from, LocalDate until) {
-        // Fetch planning data from database
-        List<PlanningDataProjection> planningData = siteRepository.getPlanningData(from, until);
-
-        // Group by workday date and collect sites
-        Map<LocalDate, WorkdayData> workdaysMap = new LinkedHashMap<>();
-
-        for (PlanningDataProjection data : planningData) {
-            LocalDate workdayDate = data.getWorkdayDate();
+    public PlanningResponse execute(LocalDate from, LocalDate until, PlanningMode mode) {
+        String region = "planning-" + mode.name().toLowerCase(Locale.ROOT);
+        return planningCache.get(region, from, until, () -> load(from, until, mode));
+    }
 
-            // Get or create workday data
-            WorkdayData workdayData = workdaysMap.get(workdayDate);
-            if (workdayData == null) {
-                workdayData = new WorkdayData(
-                        workdayDate,
-                        data.getWeekNumber(),
-                        data.getDayOfWeek(),
-                        new ArrayList<>()
-                );
-                workdaysMap.put(workdayDate, workdayData);
-            }
+    private PlanningResponse load(LocalDate from, LocalDate until, PlanningMode mode) {
+        List<PlanningDataProjection> planningData = fetchPlanningData(from, until, mode);
+        return planningResponseMapper.toResponse(from, until, planningData);
+    }
 
-            // Add site if it exists (site_id will be null for days with no sites)
-            if (data.getSiteId() != null) {
-                SiteView siteView = new SiteView(
-                        data.getSiteId(),
-                        data.getSiteName(),
-                        data.getDurationInDays(),
-                        data.getSiteStatus()
-                );
-                workdayData.sites.add(siteView);
-            }
+    private List<PlanningDataProjection> fetchPlanningData(LocalDate from, LocalDate until, PlanningMode mode) {
+        List<PlanningChunk> chunks = PlanningChunk.split(from, until, planningProperties.range().chunkWeeks());
+        if (chunks.size() == 1) {
+            return readOnlyTransaction.execute(status -> fetchChunk(from, until, mode));
         }
 
-        // Convert to WorkdayResponse records
-        List<Workday> workdays = workdaysMap.values().stream()
-                .map(wd -> new Workday(wd.date, wd.week, wd.dayOfWeek, wd.sites))
+        // Large ranges are fetched chunk by chunk on separate connections, then merged in chunk order
+        List<CompletableFuture<List<PlanningDataProjection>>> chunkData = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(
+                        status -> fetchChunk(chunk.from(), chunk.until(), mode)), taskExecutor))
                 .toList();
 
-        return new Planning(from, until, workdays);
+        return chunkData.stream()
+                .flatMap(future -> future.join().stream())
+                .toList();
     }
 
-    // Helper class for grouping data before creating immutable records
-    private static class WorkdayData {
-        LocalDate date;
-        Integer week;
-        String dayOfWeek;
-        List<SiteView> sites;
-
-        WorkdayData(LocalDate date, Integer week, String dayOfWeek, List<SiteView> sites) {
-            this.date = date;
-            this.week = week;
-            this.dayOfWeek = dayOfWeek;
-            this.sites = sites;
-        }
+    private List<PlanningDataProjection> fetchChunk(LocalDate from, LocalDate until, PlanningMode mode) {
+        return switch (mode) {
+            case START -> siteRepository.getPlanningData(from, until);
+            case OCCUPANCY -> siteRepository.getPlanningOccupancyData(from, until);
+        };
     }
 }
@@ -7,19 +7,25 @@ import be.aboutcoding.simpleplanningtool.site.SiteRepository;
 import be.aboutcoding.simpleplanningtool.worker.Worker;
 import be.aboutcoding.simpleplanningtool.worker.WorkerNotFoundException;
 import be.aboutcoding.simpleplanningtool.worker.WorkerRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 
 @Component
+@Timed("planning.usecase")
 public class LinkWorkerToSite {
 
     private final SiteRepository siteRepository;
     private final WorkerRepository workerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LinkWorkerToSite(SiteRepository siteRepository, WorkerRepository workerRepository) {
+    public LinkWorkerToSite(SiteRepository siteRepository, WorkerRepository workerRepository,
+                            ApplicationEventPublisher eventPublisher) {
         this.siteRepository = siteRepository;
         this.workerRepository = workerRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public void execute(Long siteId, Long workerId) {
@@ -38,11 +44,10 @@ public class LinkWorkerToSite {
 
         // Link worker to site
         if (site.getWorkers() == null) {
-            site.setWorkers(new ArrayList<>());
-        }
-        if (!site.getWorkers().contains(worker)) {
-            site.getWorkers().add(worker);
+            site.setWorkers(new LinkedHashSet<>());
         }
+        site.getWorkers().add(worker);
         siteRepository.save(site);
+        eventPublisher.publishEvent(PlanningChangedEvent.forSite(PlanningChangedEvent.Type.WORKER_LINKED, site));
     }
 }
@@ -0,0 +1,71 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.site.SiteHasNoExecutionDateException;
+import be.aboutcoding.simpleplanningtool.site.SiteNotFoundException;
+import be.aboutcoding.simpleplanningtool.site.SitePeriodProjection;
+import be.aboutcoding.simpleplanningtool.site.SiteRepository;
+import be.aboutcoding.simpleplanningtool.worker.WorkerNotFoundException;
+import be.aboutcoding.simpleplanningtool.worker.WorkerRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Links a crew in three statements whatever its size: one lookup of the sites, one of the workers and one insert.
+ */
+@Component
+@Timed("planning.usecase")
+public class LinkWorkersToSites {
+
+    private final SiteRepository siteRepository;
+    private final WorkerRepository workerRepository;
+    private final PlanningRepository planningRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LinkWorkersToSites(SiteRepository siteRepository, WorkerRepository workerRepository,
+                              PlanningRepository planningRepository, ApplicationEventPublisher eventPublisher) {
+        this.siteRepository = siteRepository;
+        this.workerRepository = workerRepository;
+        this.planningRepository = planningRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public void execute(List<Long> siteIds, List<Long> workerIds) {
+        Map<Long, SitePeriodProjection> sites = siteRepository.findPeriodsByIdIn(siteIds).stream()
+                .collect(Collectors.toMap(SitePeriodProjection::getId, Function.identity()));
+        for (Long siteId : siteIds) {
+            SitePeriodProjection site = sites.get(siteId);
+            if (site == null) {
+                throw new SiteNotFoundException(siteId);
+            }
+            if (site.getExecutionDate() == null) {
+                throw new SiteHasNoExecutionDateException(siteId);
+            }
+        }
+
+        Set<Long> existingWorkerIds = new HashSet<>(workerRepository.findExistingIds(workerIds));
+        workerIds.stream()
+                .filter(workerId -> !existingWorkerIds.contains(workerId))
+                .findFirst()
+                .ifPresent(workerId -> {
+                    throw new WorkerNotFoundException(workerId);
+                });
+
+        planningRepository.linkWorkersToSites(siteIds.toArray(Long[]::new), workerIds.toArray(Long[]::new));
+
+        sites.values().stream()
+                .map(site -> PlanningChangedEvent.forSite(
+                        PlanningChangedEvent.Type.WORKER_LINKED, site.getExecutionDate(), site.getDurationInDays()))
+                .reduce(PlanningChangedEvent::span)
+                .ifPresent(eventPublisher::publishEvent);
+    }
+}
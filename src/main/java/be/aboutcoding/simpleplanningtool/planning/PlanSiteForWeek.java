@@ -2,28 +2,33 @@ package be.aboutcoding.simpleplanningtool.planning;
 
 import be.aboutcoding.simpleplanningtool.site.SiteNotFoundException;
 import be.aboutcoding.simpleplanningtool.site.SiteRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.temporal.IsoFields;
-
 @Component
+@Timed("planning.usecase")
 public class PlanSiteForWeek {
 
     private final SiteRepository siteRepository;
     private final PlanningRepository planningRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PlanSiteForWeek(SiteRepository siteRepository, PlanningRepository planningRepository) {
+    public PlanSiteForWeek(SiteRepository siteRepository, PlanningRepository planningRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.siteRepository = siteRepository;
         this.planningRepository = planningRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void execute(int week, int year, Long siteId) {
-        siteRepository.findById(siteId)
-                .orElseThrow(() -> new SiteNotFoundException(siteId));
+        if (!siteRepository.existsById(siteId)) {
+            throw new SiteNotFoundException(siteId);
+        }
 
         planningRepository.planSiteForWeek(week, year, siteId);
+        eventPublisher.publishEvent(PlanningChangedEvent.forWeek(week, year));
     }
 }
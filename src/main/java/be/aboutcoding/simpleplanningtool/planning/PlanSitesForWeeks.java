@@ -0,0 +1,55 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.planning.dto.PlanSitesForWeeksRequest.Week;
+import be.aboutcoding.simpleplanningtool.site.SiteNotFoundException;
+import be.aboutcoding.simpleplanningtool.site.SiteRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Plans a batch of sites in a batch of weeks with one lookup of the sites and one insert, whatever the batch size.
+ */
+@Component
+@Timed("planning.usecase")
+public class PlanSitesForWeeks {
+
+    private final SiteRepository siteRepository;
+    private final PlanningRepository planningRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PlanSitesForWeeks(SiteRepository siteRepository, PlanningRepository planningRepository,
+                             ApplicationEventPublisher eventPublisher) {
+        this.siteRepository = siteRepository;
+        this.planningRepository = planningRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public void execute(List<Long> siteIds, List<Week> weeks) {
+        Set<Long> existingIds = new HashSet<>(siteRepository.findExistingIds(siteIds));
+        siteIds.stream()
+                .filter(siteId -> !existingIds.contains(siteId))
+                .findFirst()
+                .ifPresent(siteId -> {
+                    throw new SiteNotFoundException(siteId);
+                });
+
+        planningRepository.planSitesForWeeks(
+                siteIds.toArray(Long[]::new),
+                weeks.stream().map(Week::week).toArray(Integer[]::new),
+                weeks.stream().map(Week::year).toArray(Integer[]::new)
+        );
+
+        Week first = weeks.stream().min(Comparator.comparing(Week::year).thenComparing(Week::week)).orElseThrow();
+        Week last = weeks.stream().max(Comparator.comparing(Week::year).thenComparing(Week::week)).orElseThrow();
+        eventPublisher.publishEvent(PlanningChangedEvent.forWeek(first.week(), first.year())
+                .span(PlanningChangedEvent.forWeek(last.week(), last.year())));
+    }
+}
@@ -1,20 +1,31 @@
 package be.aboutcoding.simpleplanningtool.planning;
 
+import be.aboutcoding.simpleplanningtool.bulkhead.Bulkhead;
+import be.aboutcoding.simpleplanningtool.planning.calendar.GetWorkerCalendar;
 import be.aboutcoding.simpleplanningtool.planning.dayplanning.DayPlanningFlowController;
+import be.aboutcoding.simpleplanningtool.planning.dto.CrewAssignmentRequest;
 import be.aboutcoding.simpleplanningtool.planning.dto.DayOverviewResponse;
 import be.aboutcoding.simpleplanningtool.planning.dto.IdleWorkersResponse;
 import be.aboutcoding.simpleplanningtool.planning.dto.PlanSiteForWeekRequest;
+import be.aboutcoding.simpleplanningtool.planning.dto.PlanSitesForWeeksRequest;
+import be.aboutcoding.simpleplanningtool.planning.dto.PlannerDashboardResponse;
 import be.aboutcoding.simpleplanningtool.planning.dto.PlanningResponse;
+import be.aboutcoding.simpleplanningtool.planning.dto.WorkerCalendarResponse;
 import be.aboutcoding.simpleplanningtool.planning.dto.WorkerDayOverviewResponse;
 import be.aboutcoding.simpleplanningtool.planning.model.DayOverview;
 import be.aboutcoding.simpleplanningtool.planning.model.MonthlyOverview;
-import be.aboutcoding.simpleplanningtool.planning.model.Planning;
+import be.aboutcoding.simpleplanningtool.planning.revision.RevisionETag;
 import be.aboutcoding.simpleplanningtool.planning.workerday.GetDayOverviewWorkers;
 import be.aboutcoding.simpleplanningtool.site.Site;
 import be.aboutcoding.simpleplanningtool.site.SiteRepository;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -25,44 +36,66 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.time.temporal.IsoFields;
 
 @RestController
 @RequestMapping("/planning")
 @Transactional
+@Bulkhead("planning")
+@RevisionETag
 public class PlanningApi {
 
     private final SiteRepository siteRepository;
     private final LinkWorkerToSite linkWorkerToSite;
     private final UnlinkWorker unlinkWorker;
+    private final LinkWorkersToSites linkWorkersToSites;
+    private final UnlinkWorkersFromSites unlinkWorkersFromSites;
     private final GetPlanning getPlanning;
-    private final PlanningResponseMapper planningResponseMapper;
     private final DayPlanningFlowController dayPlanningFlowController;
     private final GetIdleWorkers getIdleWorkers;
     private final GetDayOverviewWorkers getDayOverviewWorkers;
     private final PlanSiteForWeek planSiteForWeek;
+    private final PlanSitesForWeeks planSitesForWeeks;
     private final GetMonthlyOverview getMonthlyOverview;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlanningStreamWriter planningStreamWriter;
+    private final PlanningProperties planningProperties;
+    private final GetPlannerDashboard getPlannerDashboard;
+    private final GetWorkerCalendar getWorkerCalendar;
 
     public PlanningApi(SiteRepository siteRepository, LinkWorkerToSite linkWorkerToSite, UnlinkWorker unlinkWorker,
-                       GetPlanning getPlanning, PlanningResponseMapper planningResponseMapper,
-                       DayPlanningFlowController dayPlanningFlowController, GetIdleWorkers getIdleWorkers,
-                       GetDayOverviewWorkers getDayOverviewWorkers, PlanSiteForWeek planSiteForWeek,
-                       GetMonthlyOverview getMonthlyOverview) {
+                       LinkWorkersToSites linkWorkersToSites, UnlinkWorkersFromSites unlinkWorkersFromSites,
+                       GetPlanning getPlanning, DayPlanningFlowController dayPlanningFlowController,
+                       GetIdleWorkers getIdleWorkers, GetDayOverviewWorkers getDayOverviewWorkers,
+                       PlanSiteForWeek planSiteForWeek, PlanSitesForWeeks planSitesForWeeks,
+                       GetMonthlyOverview getMonthlyOverview, ApplicationEventPublisher eventPublisher,
+                       PlanningStreamWriter planningStreamWriter, PlanningProperties planningProperties,
+                       GetPlannerDashboard getPlannerDashboard, GetWorkerCalendar getWorkerCalendar) {
         this.siteRepository = siteRepository;
         this.linkWorkerToSite = linkWorkerToSite;
         this.unlinkWorker = unlinkWorker;
+        this.linkWorkersToSites = linkWorkersToSites;
+        this.unlinkWorkersFromSites = unlinkWorkersFromSites;
         this.getPlanning = getPlanning;
-        this.planningResponseMapper = planningResponseMapper;
         this.dayPlanningFlowController = dayPlanningFlowController;
         this.getIdleWorkers = getIdleWorkers;
         this.getDayOverviewWorkers = getDayOverviewWorkers;
         this.planSiteForWeek = planSiteForWeek;
+        this.planSitesForWeeks = planSitesForWeeks;
         this.getMonthlyOverview = getMonthlyOverview;
+        this.eventPublisher = eventPublisher;
+        this.planningStreamWriter = planningStreamWriter;
+        this.planningProperties = planningProperties;
+        this.getPlannerDashboard = getPlannerDashboard;
+        this.getWorkerCalendar = getWorkerCalendar;
     }
 
     @GetMapping("/monthly")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<MonthlyOverview>> getMonthlyOverview() {
         return ResponseEntity.ok(getMonthlyOverview.execute());
     }
@@ -74,6 +107,13 @@ public class PlanningApi {
         return ResponseEntity.status(201).build();
     }
 
+    @PutMapping("/monthly/batch")
+    public ResponseEntity<Void> planSitesForWeeks(@Valid @RequestBody PlanSitesForWeeksRequest request) {
+        request.weeks().forEach(week -> validateWeekYearCombiation(week.week(), week.year()));
+        planSitesForWeeks.execute(request.siteIds(), request.weeks());
+        return ResponseEntity.status(201).build();
+    }
+
     private void validateWeekYearCombiation(Integer week, Integer year) {
         LocalDate today = LocalDate.now();
         int currentWeek = today.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
@@ -84,6 +124,13 @@ public class PlanningApi {
         }
     }
 
+    private void validateRangeSize(LocalDate from, LocalDate until) {
+        int maxDays = planningProperties.range().maxDays();
+        if (ChronoUnit.DAYS.between(from, until) >= maxDays) {
+            throw new PlanningRangeTooLargeException(from, until, maxDays);
+        }
+    }
+
     @PatchMapping("/sites/{siteId}")
     public ResponseEntity<Void> planSite(
             @PathVariable Long siteId,
@@ -102,10 +149,16 @@ public class PlanningApi {
             return ResponseEntity.notFound().build();
         }
 
+        // The site disappears from its previous period, if it had one
+        if (site.getExecutionDate() != null) {
+            eventPublisher.publishEvent(PlanningChangedEvent.forSite(PlanningChangedEvent.Type.SITE_RESCHEDULED, site));
+        }
+
         // Update execution date
         site.setExecutionDate(date);
         siteRepository.save(site);
         siteRepository.flush();
+        eventPublisher.publishEvent(PlanningChangedEvent.forSite(PlanningChangedEvent.Type.SITE_RESCHEDULED, site));
 
         return ResponseEntity.noContent().build();
     }
@@ -128,10 +181,26 @@ public class PlanningApi {
         return ResponseEntity.noContent().build();
     }
 
+    @PatchMapping("/assignments/link")
+    public ResponseEntity<Void> linkWorkersToSites(@Valid @RequestBody CrewAssignmentRequest request) {
+        linkWorkersToSites.execute(request.siteIds(), request.workerIds());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PatchMapping("/assignments/unlink")
+    public ResponseEntity<Void> unlinkWorkersFromSites(@Valid @RequestBody CrewAssignmentRequest request) {
+        unlinkWorkersFromSites.execute(request.siteIds(), request.workerIds());
+        return ResponseEntity.noContent().build();
+    }
+
+    // The chunks of a large range each get their own connection, so the request itself does not hold one
     @GetMapping
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Bulkhead("planning-range")
     public ResponseEntity<PlanningResponse> getPlanning(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate until) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate until,
+            @RequestParam(defaultValue = "START") PlanningMode mode) {
 
         // Apply defaults
         LocalDate fromDate = from != null ? from : LocalDate.now();
@@ -141,13 +210,39 @@ public class PlanningApi {
         if (untilDate.isBefore(fromDate)) {
             return ResponseEntity.badRequest().build();
         }
+        validateRangeSize(fromDate, untilDate);
 
-        Planning planning = getPlanning.execute(fromDate, untilDate);
-        PlanningResponse response = planningResponseMapper.toResponse(planning);
+        PlanningResponse response = getPlanning.execute(fromDate, untilDate, mode);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/stream")
+    @Transactional(readOnly = true)
+    @Bulkhead("planning-range")
+    public void streamPlanning(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate until,
+            @RequestParam(defaultValue = "START") PlanningMode mode,
+            HttpServletResponse response) throws IOException {
+
+        // Apply defaults
+        LocalDate fromDate = from != null ? from : LocalDate.now();
+        LocalDate untilDate = until != null ? until : fromDate.plusDays(30);
+
+        // Validate: until cannot be before from
+        if (untilDate.isBefore(fromDate)) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        validateRangeSize(fromDate, untilDate);
+
+        // Same structure as getPlanning, written week by week instead of built in memory first
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        planningStreamWriter.write(fromDate, untilDate, mode, response.getOutputStream());
+    }
+
     @GetMapping("/day")
+    @Transactional(readOnly = true)
     public ResponseEntity<DayOverviewResponse> getDayOverview(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
@@ -156,7 +251,27 @@ public class PlanningApi {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/days")
+    @Transactional(readOnly = true)
+    @Bulkhead("planning-range")
+    public ResponseEntity<List<DayOverviewResponse>> getDayOverviews(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate until) {
+
+        // Validate: until cannot be before from
+        if (until.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        validateRangeSize(from, until);
+
+        List<DayOverviewResponse> response = dayPlanningFlowController.execute(from, until).stream()
+                .map(DayOverviewResponse::from)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/idle")
+    @Transactional(readOnly = true)
     public ResponseEntity<IdleWorkersResponse> getIdleWorkers(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
@@ -166,10 +281,39 @@ public class PlanningApi {
     }
 
     @GetMapping("/worker/day")
+    @Transactional(readOnly = true)
     public ResponseEntity<WorkerDayOverviewResponse> getWorkerDayOverview(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
         WorkerDayOverviewResponse response = getDayOverviewWorkers.execute(date);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/workers/availability")
+    @Transactional(readOnly = true)
+    @Bulkhead("planning-range")
+    public ResponseEntity<WorkerCalendarResponse> getWorkerCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate until) {
+
+        // Validate: until cannot be before from
+        if (until.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        validateRangeSize(from, until);
+
+        WorkerCalendarResponse response = getWorkerCalendar.execute(from, until);
+        return ResponseEntity.ok(response);
+    }
+
+    // Every part of the dashboard gets its own connection, so the request itself does not hold one
+    @GetMapping("/dashboard")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Bulkhead("planning-range")
+    public ResponseEntity<PlannerDashboardResponse> getPlannerDashboard(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        PlannerDashboardResponse response = getPlannerDashboard.execute(date);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,62 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.site.Site;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+/**
+ * Published by every write that changes what the planning screens show. The period is the range of dates
+ * that is affected by the change, both ends inclusive. A period without bounds means everything can be affected.
+ */
+public record PlanningChangedEvent(Type type, LocalDate from, LocalDate until) {
+
+    public enum Type {
+        SITE_RESCHEDULED,
+        SITE_PLANNED_FOR_WEEK,
+        WORKER_LINKED,
+        WORKER_UNLINKED,
+        SITE_CHANGED,
+        WORKER_CHANGED
+    }
+
+    public static PlanningChangedEvent everything(Type type) {
+        return new PlanningChangedEvent(type, null, null);
+    }
+
+    public static PlanningChangedEvent forSite(Type type, Site site) {
+        return forSite(type, site.getExecutionDate(), site.getDurationInDays());
+    }
+
+    public static PlanningChangedEvent forSite(Type type, LocalDate executionDate, Integer durationInDays) {
+        if (executionDate == null) {
+            return everything(type);
+        }
+        int days = durationInDays != null ? durationInDays : 1;
+        return new PlanningChangedEvent(type, executionDate, executionDate.plusDays(days - 1L));
+    }
+
+    public static PlanningChangedEvent forWeek(int week, int year) {
+        LocalDate monday = LocalDate.of(year, 1, 4)
+                .with(IsoFields.WEEK_OF_WEEK_BASED_YEAR, week)
+                .with(DayOfWeek.MONDAY);
+        return new PlanningChangedEvent(Type.SITE_PLANNED_FOR_WEEK, monday, monday.plusDays(6));
+    }
+
+    /**
+     * The smallest period that covers both this and the other change, for writes that touch several sites at once.
+     */
+    public PlanningChangedEvent span(PlanningChangedEvent other) {
+        LocalDate spanFrom = from == null || other.from == null ? null
+                : from.isBefore(other.from) ? from : other.from;
+        LocalDate spanUntil = until == null || other.until == null ? null
+                : until.isAfter(other.until) ? until : other.until;
+        return new PlanningChangedEvent(type, spanFrom, spanUntil);
+    }
+
+    public boolean affects(LocalDate otherFrom, LocalDate otherUntil) {
+        return (from == null || !otherUntil.isBefore(from))
+                && (until == null || !otherFrom.isAfter(until));
+    }
+}
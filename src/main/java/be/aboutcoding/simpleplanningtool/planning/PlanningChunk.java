@@ -0,0 +1,35 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Part of a planning range. Chunks always start on a Monday and end on a Sunday, except for the first and last
+ * chunk that start and end on the requested dates, so each chunk gets exactly its own weeks from get_planning.
+ */
+public record PlanningChunk(LocalDate from, LocalDate until) {
+
+    public static List<PlanningChunk> split(LocalDate from, LocalDate until, int weeksPerChunk) {
+        if (weeksPerChunk < 1) {
+            throw new IllegalArgumentException("A chunk needs at least one week, got " + weeksPerChunk);
+        }
+        List<PlanningChunk> chunks = new ArrayList<>();
+
+        LocalDate chunkFrom = from;
+        while (!chunkFrom.isAfter(until)) {
+            LocalDate chunkUntil = chunkFrom
+                    .with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY))
+                    .plusWeeks(weeksPerChunk - 1L);
+            if (chunkUntil.isAfter(until)) {
+                chunkUntil = until;
+            }
+            chunks.add(new PlanningChunk(chunkFrom, chunkUntil));
+            chunkFrom = chunkUntil.plusDays(1);
+        }
+
+        return chunks;
+    }
+}
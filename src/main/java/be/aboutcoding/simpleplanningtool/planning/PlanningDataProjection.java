@@ -5,7 +5,6 @@ import java.time.LocalDate;
 public interface PlanningDataProjection {
     LocalDate getWorkdayDate();
     Integer getWeekNumber();
-    String getDayOfWeek();
     Long getSiteId();
     String getSiteName();
     Integer getDurationInDays();
@@ -0,0 +1,17 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+/**
+ * Which days of the planning grid show a site.
+ */
+public enum PlanningMode {
+
+    /**
+     * Only the execution date, whatever the status of the site.
+     */
+    START,
+
+    /**
+     * Every day an open site occupies, from its execution date until its last day.
+     */
+    OCCUPANCY
+}
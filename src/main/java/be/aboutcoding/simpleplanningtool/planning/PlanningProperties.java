@@ -0,0 +1,50 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties("planning")
+@Validated
+public record PlanningProperties(@DefaultValue @Valid Cache cache,
+                                 @DefaultValue @Valid Range range,
+                                 @DefaultValue @Valid Changes changes) {
+
+    public record Cache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("1000") int maxEntries
+    ) {
+    }
+
+    /**
+     * @param maxDays    the largest span, in days, a planning request can ask for
+     * @param chunkWeeks ranges covering more weeks than this are fetched in concurrent chunks of this many weeks
+     */
+    public record Range(
+            @DefaultValue("366") @Min(1) int maxDays,
+            @DefaultValue("8") @Min(1) int chunkWeeks
+    ) {
+    }
+
+    /**
+     * @param maxSubscribers clients that can listen to the change stream at the same time
+     * @param queueSize      changes a client can lag behind before it is disconnected
+     * @param heartbeat      quiet time after which a comment is sent, so proxies keep the connection open
+     * @param timeout        lifetime of a stream, after which the client reconnects
+     * @param pollInterval   how often the changes recorded by other instances are picked up
+     * @param history        recent changes kept for clients that reconnect with the id of the last one they received
+     */
+    public record Changes(
+            @DefaultValue("10000") @Min(1) int maxSubscribers,
+            @DefaultValue("64") @Min(1) int queueSize,
+            @DefaultValue("25s") Duration heartbeat,
+            @DefaultValue("30m") Duration timeout,
+            @DefaultValue("1s") Duration pollInterval,
+            @DefaultValue("1000") @Min(1) int history
+    ) {
+    }
+}
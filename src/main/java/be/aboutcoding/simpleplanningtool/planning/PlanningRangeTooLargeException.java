@@ -0,0 +1,10 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import java.time.LocalDate;
+
+public class PlanningRangeTooLargeException extends RuntimeException {
+
+    public PlanningRangeTooLargeException(LocalDate from, LocalDate until, int maxDays) {
+        super("Range from " + from + " until " + until + " exceeds the maximum of " + maxDays + " days");
+    }
+}
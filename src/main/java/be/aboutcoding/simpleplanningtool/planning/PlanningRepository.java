@@ -1,7 +1,9 @@
 package be.aboutcoding.simpleplanningtool.planning;
 
+import be.aboutcoding.simpleplanningtool.planning.calendar.WorkerSitePeriodProjection;
+import be.aboutcoding.simpleplanningtool.planning.dayplanning.RawPlannedSiteDayProjection;
 import be.aboutcoding.simpleplanningtool.planning.dayplanning.RawPlannedSiteProjection;
-import be.aboutcoding.simpleplanningtool.planning.workerday.WorkerDayDetailProjection;
+import be.aboutcoding.simpleplanningtool.planning.workerday.WorkerAvailabilityProjection;
 import be.aboutcoding.simpleplanningtool.site.Site;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -18,13 +20,58 @@ public interface PlanningRepository extends JpaRepository<Site, Long> {
     @Query(value = "SELECT * FROM get_active_sites_on_date(:date)", nativeQuery = true)
     List<RawPlannedSiteProjection> findActiveSitesOnDate(@Param("date") LocalDate date);
 
-    @Query(value = "SELECT * FROM get_worker_day_overview(:date)", nativeQuery = true)
-    List<WorkerDayDetailProjection> findWorkerDayOverview(@Param("date") LocalDate date);
+    @Query(value = "SELECT * FROM get_active_sites_between(:fromDate, :untilDate)", nativeQuery = true)
+    List<RawPlannedSiteDayProjection> findActiveSitesBetween(
+            @Param("fromDate") LocalDate fromDate,
+            @Param("untilDate") LocalDate untilDate
+    );
 
+    @Query(value = "SELECT * FROM get_worker_availability(:date)", nativeQuery = true)
+    List<WorkerAvailabilityProjection> findWorkerAvailability(@Param("date") LocalDate date);
+
+    @Query(value = "SELECT * FROM get_worker_site_periods(:from, :until)", nativeQuery = true)
+    List<WorkerSitePeriodProjection> findWorkerSitePeriods(@Param("from") LocalDate from,
+                                                           @Param("until") LocalDate until);
+
+    // Planning a site in a week it is already planned in is a no-op
     @Modifying
-    @Query(value = "INSERT INTO site_week_planning (week, year, site_id) VALUES (:week, :year, :siteId)", nativeQuery = true)
+    @Query(value = """
+            INSERT INTO site_week_planning (week, year, site_id) VALUES (:week, :year, :siteId)
+            ON CONFLICT (site_id, year, week) DO NOTHING
+            """, nativeQuery = true)
     void planSiteForWeek(@Param("week") int week, @Param("year") int year, @Param("siteId") Long siteId);
 
+    // Every site in every week; weeks and years are zipped by position
+    @Modifying
+    @Query(value = """
+            INSERT INTO site_week_planning (week, year, site_id)
+            SELECT w.week, w.year, s.site_id
+            FROM unnest(CAST(:weeks AS INTEGER[]), CAST(:years AS INTEGER[])) AS w(week, year)
+            CROSS JOIN unnest(CAST(:siteIds AS BIGINT[])) AS s(site_id)
+            ON CONFLICT (site_id, year, week) DO NOTHING
+            """, nativeQuery = true)
+    void planSitesForWeeks(@Param("siteIds") Long[] siteIds, @Param("weeks") Integer[] weeks,
+                           @Param("years") Integer[] years);
+
+    // Every worker on every site; pairs that are already linked are left alone
+    @Modifying
+    @Query(value = """
+            INSERT INTO site_workers (site_id, worker_id)
+            SELECT s.site_id, w.worker_id
+            FROM unnest(CAST(:siteIds AS BIGINT[])) AS s(site_id)
+            CROSS JOIN unnest(CAST(:workerIds AS BIGINT[])) AS w(worker_id)
+            ON CONFLICT (site_id, worker_id) DO NOTHING
+            """, nativeQuery = true)
+    void linkWorkersToSites(@Param("siteIds") Long[] siteIds, @Param("workerIds") Long[] workerIds);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM site_workers
+            WHERE site_id = ANY(CAST(:siteIds AS BIGINT[]))
+              AND worker_id = ANY(CAST(:workerIds AS BIGINT[]))
+            """, nativeQuery = true)
+    void unlinkWorkersFromSites(@Param("siteIds") Long[] siteIds, @Param("workerIds") Long[] workerIds);
+
     @Query(value = "SELECT * FROM get_week_planning_overview()", nativeQuery = true)
     List<WeekPlanningOverviewProjection> getWeekPlanningOverview();
 }
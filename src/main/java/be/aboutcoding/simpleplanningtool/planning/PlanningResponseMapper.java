@@ -4,91 +4,77 @@ import be.aboutcoding.simpleplanningtool.planning.dto.DayResponse;
 import be.aboutcoding.simpleplanningtool.planning.dto.PlanningResponse;
 import be.aboutcoding.simpleplanningtool.planning.dto.SiteViewResponse;
 import be.aboutcoding.simpleplanningtool.planning.dto.WeekResponse;
-import be.aboutcoding.simpleplanningtool.planning.model.Planning;
-import be.aboutcoding.simpleplanningtool.planning.model.SiteView;
-import be.aboutcoding.simpleplanningtool.planning.model.Workday;
 import org.springframework.stereotype.Component;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 @Component
 public class PlanningResponseMapper {
 
-    public PlanningResponse toResponse(Planning planning) {
-        // Group workdays by week number
-        Map<Integer, List<Workday>> weekGroups = new LinkedHashMap<>();
+    private static final int DAYS_IN_WEEK = DayOfWeek.values().length;
 
-        for (Workday workday : planning.workdays()) {
-            weekGroups
-                    .computeIfAbsent(workday.week(), k -> new ArrayList<>())
-                    .add(workday);
-        }
-
-        // Convert each week group to WeekResponse
+    /**
+     * Maps the rows of get_planning into weeks in a single pass. The rows need to be sorted by date, so a week is
+     * complete as soon as a row of the next Monday comes in. Days are placed by {@link DayOfWeek} of their date,
+     * which keeps the mapping independent of the day names PostgreSQL formats with its lc_time setting.
+     */
+    public PlanningResponse toResponse(LocalDate from, LocalDate until, List<PlanningDataProjection> planningData) {
         List<WeekResponse> weeks = new ArrayList<>();
-        for (Map.Entry<Integer, List<Workday>> entry : weekGroups.entrySet()) {
-            Integer weekNumber = entry.getKey();
-            List<Workday> workdays = entry.getValue();
 
-            // Create a map of day name to workday for easy lookup
-            Map<String, Workday> dayMap = new HashMap<>();
-            for (Workday workday : workdays) {
-                dayMap.put(workday.dayOfWeek(), workday);
-            }
+        DayResponse[] days = new DayResponse[DAYS_IN_WEEK];
+        Integer weekNumber = null;
+        LocalDate currentDate = null;
+        List<SiteViewResponse> currentSites = null;
 
-            // Create DayResponse for each day of the week
-            DayResponse monday = createDayResponse(dayMap.get("Monday"));
-            DayResponse tuesday = createDayResponse(dayMap.get("Tuesday"));
-            DayResponse wednesday = createDayResponse(dayMap.get("Wednesday"));
-            DayResponse thursday = createDayResponse(dayMap.get("Thursday"));
-            DayResponse friday = createDayResponse(dayMap.get("Friday"));
-            DayResponse saturday = createDayResponse(dayMap.get("Saturday"));
-            DayResponse sunday = createDayResponse(dayMap.get("Sunday"));
+        for (PlanningDataProjection data : planningData) {
+            LocalDate workdayDate = data.getWorkdayDate();
 
-            WeekResponse weekResponse = new WeekResponse(
-                    weekNumber,
-                    monday,
-                    tuesday,
-                    wednesday,
-                    thursday,
-                    friday,
-                    saturday,
-                    sunday
-            );
-
-            weeks.add(weekResponse);
-        }
+            if (!workdayDate.equals(currentDate)) {
+                DayOfWeek dayOfWeek = workdayDate.getDayOfWeek();
+                if (dayOfWeek == DayOfWeek.MONDAY && weekNumber != null) {
+                    weeks.add(toWeekResponse(weekNumber, days));
+                    days = new DayResponse[DAYS_IN_WEEK];
+                }
+                if (dayOfWeek == DayOfWeek.MONDAY || weekNumber == null) {
+                    weekNumber = data.getWeekNumber();
+                }
 
-        return new PlanningResponse(
-                planning.from(),
-                planning.until(),
-                weeks
-        );
-    }
+                currentDate = workdayDate;
+                currentSites = new ArrayList<>();
+                days[dayOfWeek.ordinal()] = new DayResponse(workdayDate, currentSites);
+            }
 
-    private DayResponse createDayResponse(Workday workday) {
-        if (workday == null) {
-            // This shouldn't happen if database function generates all days
-            return null;
+            // site_id is null for days without sites
+            if (data.getSiteId() != null) {
+                currentSites.add(new SiteViewResponse(
+                        data.getSiteId(),
+                        data.getSiteName(),
+                        data.getDurationInDays(),
+                        data.getSiteStatus()
+                ));
+            }
         }
 
-        List<SiteViewResponse> sites = workday.sites().stream()
-                .map(this::toSiteViewResponse)
-                .toList();
+        if (weekNumber != null) {
+            weeks.add(toWeekResponse(weekNumber, days));
+        }
 
-        return new DayResponse(workday.date(), sites);
+        return new PlanningResponse(from, until, weeks);
     }
 
-    private SiteViewResponse toSiteViewResponse(SiteView siteView) {
-        return new SiteViewResponse(
-                siteView.id(),
-                siteView.name(),
-                siteView.durationInDays(),
-                siteView.status()
+    private WeekResponse toWeekResponse(Integer weekNumber, DayResponse[] days) {
+        return new WeekResponse(
+                weekNumber,
+                days[DayOfWeek.MONDAY.ordinal()],
+                days[DayOfWeek.TUESDAY.ordinal()],
+                days[DayOfWeek.WEDNESDAY.ordinal()],
+                days[DayOfWeek.THURSDAY.ordinal()],
+                days[DayOfWeek.FRIDAY.ordinal()],
+                days[DayOfWeek.SATURDAY.ordinal()],
+                days[DayOfWeek.SUNDAY.ordinal()]
         );
     }
 }
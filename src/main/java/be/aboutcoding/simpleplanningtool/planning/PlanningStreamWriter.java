@@ -0,0 +1,135 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.planning.dto.DayResponse;
+import be.aboutcoding.simpleplanningtool.planning.dto.SiteViewResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the planning grid in the same JSON structure as {@link PlanningResponseMapper}, but week by week while the
+ * rows of get_planning come in. The rows are read through a forward-only cursor, so memory use does not depend on
+ * the requested range. Needs to run inside a transaction, otherwise PostgreSQL ignores the fetch size.
+ */
+@Component
+public class PlanningStreamWriter {
+
+    private static final String PLANNING_QUERY = "SELECT * FROM get_planning(?, ?)";
+    private static final String PLANNING_OCCUPANCY_QUERY = "SELECT * FROM get_planning_occupancy(?, ?)";
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Closing the generator must not finish the open arrays and objects: when the query fails halfway, the client
+    // has to get a broken body instead of valid JSON that silently misses weeks
+    private final ObjectWriter objectWriter;
+
+    public PlanningStreamWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectWriter = objectMapper.writer().without(StreamWriteFeature.AUTO_CLOSE_CONTENT);
+    }
+
+    public void write(LocalDate from, LocalDate until, PlanningMode mode, OutputStream outputStream) {
+        String query = switch (mode) {
+            case START -> PLANNING_QUERY;
+            case OCCUPANCY -> PLANNING_OCCUPANCY_QUERY;
+        };
+        try (JsonGenerator generator = objectWriter.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writePOJOProperty("from", from);
+            generator.writePOJOProperty("until", until);
+            generator.writeArrayPropertyStart("weeks");
+
+            WeekWriter weekWriter = new WeekWriter(generator);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setObject(1, from);
+                statement.setObject(2, until);
+                return statement;
+            }, weekWriter);
+            weekWriter.finish();
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    // Rows are sorted by date, so a day is complete as soon as the date changes
+    private static class WeekWriter implements RowCallbackHandler {
+
+        private final JsonGenerator generator;
+        private LocalDate currentDate;
+        private List<SiteViewResponse> currentSites = new ArrayList<>();
+        private boolean weekOpen;
+
+        WeekWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet row) throws SQLException {
+            LocalDate date = row.getObject("workday_date", LocalDate.class);
+
+            if (!date.equals(currentDate)) {
+                writeCurrentDay();
+                if (date.getDayOfWeek() == DayOfWeek.MONDAY) {
+                    startWeek(row.getInt("week_number"));
+                }
+                currentDate = date;
+            }
+
+            long siteId = row.getLong("site_id");
+            if (!row.wasNull()) {
+                currentSites.add(new SiteViewResponse(
+                        siteId,
+                        row.getString("site_name"),
+                        row.getObject("duration_in_days", Integer.class),
+                        row.getString("site_status")
+                ));
+            }
+        }
+
+        void finish() {
+            writeCurrentDay();
+            if (weekOpen) {
+                generator.writeEndObject();
+            }
+        }
+
+        private void startWeek(int weekNumber) {
+            if (weekOpen) {
+                generator.writeEndObject();
+            }
+            generator.writeStartObject();
+            generator.writeNumberProperty("week", weekNumber);
+            weekOpen = true;
+        }
+
+        private void writeCurrentDay() {
+            if (currentDate == null) {
+                return;
+            }
+            generator.writePOJOProperty(
+                    currentDate.getDayOfWeek().name().toLowerCase(Locale.ROOT),
+                    new DayResponse(currentDate, currentSites)
+            );
+            currentSites = new ArrayList<>();
+        }
+    }
+}
@@ -3,15 +3,20 @@ package be.aboutcoding.simpleplanningtool.planning;
 import be.aboutcoding.simpleplanningtool.site.Site;
 import be.aboutcoding.simpleplanningtool.site.SiteNotFoundException;
 import be.aboutcoding.simpleplanningtool.site.SiteRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
+@Timed("planning.usecase")
 public class UnlinkWorker {
 
     private final SiteRepository siteRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UnlinkWorker(SiteRepository siteRepository) {
+    public UnlinkWorker(SiteRepository siteRepository, ApplicationEventPublisher eventPublisher) {
         this.siteRepository = siteRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public void execute(Long siteId, Long workerId) {
@@ -25,5 +30,10 @@ public class UnlinkWorker {
         }
 
         siteRepository.save(site);
+
+        // A site without execution date does not show up in any planning
+        if (site.getExecutionDate() != null) {
+            eventPublisher.publishEvent(PlanningChangedEvent.forSite(PlanningChangedEvent.Type.WORKER_UNLINKED, site));
+        }
     }
 }
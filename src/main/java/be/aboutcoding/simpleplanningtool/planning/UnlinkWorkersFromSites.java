@@ -0,0 +1,53 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.site.SiteNotFoundException;
+import be.aboutcoding.simpleplanningtool.site.SitePeriodProjection;
+import be.aboutcoding.simpleplanningtool.site.SiteRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@Timed("planning.usecase")
+public class UnlinkWorkersFromSites {
+
+    private final SiteRepository siteRepository;
+    private final PlanningRepository planningRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UnlinkWorkersFromSites(SiteRepository siteRepository, PlanningRepository planningRepository,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.siteRepository = siteRepository;
+        this.planningRepository = planningRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public void execute(List<Long> siteIds, List<Long> workerIds) {
+        List<SitePeriodProjection> sites = siteRepository.findPeriodsByIdIn(siteIds);
+        Set<Long> existingSiteIds = sites.stream()
+                .map(SitePeriodProjection::getId)
+                .collect(Collectors.toSet());
+        siteIds.stream()
+                .filter(siteId -> !existingSiteIds.contains(siteId))
+                .findFirst()
+                .ifPresent(siteId -> {
+                    throw new SiteNotFoundException(siteId);
+                });
+
+        planningRepository.unlinkWorkersFromSites(siteIds.toArray(Long[]::new), workerIds.toArray(Long[]::new));
+
+        // A site without execution date does not show up in any planning
+        sites.stream()
+                .filter(site -> site.getExecutionDate() != null)
+                .map(site -> PlanningChangedEvent.forSite(
+                        PlanningChangedEvent.Type.WORKER_UNLINKED, site.getExecutionDate(), site.getDurationInDays()))
+                .reduce(PlanningChangedEvent::span)
+                .ifPresent(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,88 @@
+package be.aboutcoding.simpleplanningtool.planning.cache;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import be.aboutcoding.simpleplanningtool.planning.PlanningProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, least-recently-used cache for the planning read use cases. Every entry is stored for the period of
+ * dates it covers, so a {@link PlanningChangedEvent} only evicts the entries that overlap with the changed dates.
+ */
+@Component
+public class PlanningCache {
+
+    private final boolean enabled;
+    private final Map<Key, Object> entries;
+
+    // Incremented on every eviction, so a value loaded while a change got committed is never stored
+    private long generation;
+
+    public PlanningCache(PlanningProperties properties) {
+        this.enabled = properties.cache().enabled();
+        int maxEntries = properties.cache().maxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String region, LocalDate from, LocalDate until, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(region, from, until);
+        long loadedInGeneration;
+        synchronized (this) {
+            Object cached = entries.get(key);
+            if (cached != null) {
+                return (T) cached;
+            }
+            loadedInGeneration = generation;
+        }
+
+        T value = loader.get();
+
+        synchronized (this) {
+            if (loadedInGeneration == generation) {
+                entries.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlanningChanged(PlanningChangedEvent event) {
+        evict(event);
+    }
+
+    public synchronized void evict(PlanningChangedEvent event) {
+        generation++;
+
+        // The planning grid always covers whole weeks, whatever dates were requested
+        PlanningChangedEvent widened = new PlanningChangedEvent(
+                event.type(),
+                event.from() != null ? event.from().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : null,
+                event.until() != null ? event.until().with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)) : null
+        );
+        entries.keySet().removeIf(key -> widened.affects(key.from(), key.until()));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private record Key(String region, LocalDate from, LocalDate until) {
+    }
+}
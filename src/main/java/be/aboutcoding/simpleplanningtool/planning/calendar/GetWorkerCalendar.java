@@ -0,0 +1,34 @@
+package be.aboutcoding.simpleplanningtool.planning.calendar;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningRepository;
+import be.aboutcoding.simpleplanningtool.planning.cache.PlanningCache;
+import be.aboutcoding.simpleplanningtool.planning.dto.WorkerCalendarResponse;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Free and busy periods of every worker over a date range, so finding who is free in a month is one query
+ * instead of asking for the idle workers day by day.
+ */
+@Component
+@Timed("planning.usecase")
+public class GetWorkerCalendar {
+
+    private final PlanningRepository planningRepository;
+    private final WorkerCalendarMapper mapper;
+    private final PlanningCache planningCache;
+
+    public GetWorkerCalendar(PlanningRepository planningRepository, WorkerCalendarMapper mapper,
+                             PlanningCache planningCache) {
+        this.planningRepository = planningRepository;
+        this.mapper = mapper;
+        this.planningCache = planningCache;
+    }
+
+    public WorkerCalendarResponse execute(LocalDate from, LocalDate until) {
+        return planningCache.get("worker-calendar", from, until,
+                () -> mapper.toResponse(from, until, planningRepository.findWorkerSitePeriods(from, until)));
+    }
+}
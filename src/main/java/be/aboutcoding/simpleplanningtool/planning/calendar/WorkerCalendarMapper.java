@@ -0,0 +1,104 @@
+package be.aboutcoding.simpleplanningtool.planning.calendar;
+
+import be.aboutcoding.simpleplanningtool.planning.dto.AvailabilityPeriodDto;
+import be.aboutcoding.simpleplanningtool.planning.dto.WorkerCalendarDto;
+import be.aboutcoding.simpleplanningtool.planning.dto.WorkerCalendarResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class WorkerCalendarMapper {
+
+    /**
+     * Turns the rows of get_worker_site_periods into alternating free and busy periods per worker, covering
+     * [from, until] without gaps. The rows need to be sorted by worker and period start: a single sweep then merges
+     * overlapping and adjacent site periods into one busy period, and every gap between them becomes a free period.
+     */
+    public WorkerCalendarResponse toResponse(LocalDate from, LocalDate until, List<WorkerSitePeriodProjection> rows) {
+        List<WorkerCalendarDto> workers = new ArrayList<>();
+
+        WorkerSweep sweep = null;
+        for (WorkerSitePeriodProjection row : rows) {
+            if (sweep == null || !sweep.workerId.equals(row.getWorkerId())) {
+                if (sweep != null) {
+                    workers.add(sweep.finish());
+                }
+                sweep = new WorkerSweep(row, from, until);
+            }
+
+            // linked_site_id is null for workers without sites in the range
+            if (row.getLinkedSiteId() != null) {
+                sweep.add(row.getLinkedSiteId(), row.getPeriodStart(), row.getPeriodEnd());
+            }
+        }
+        if (sweep != null) {
+            workers.add(sweep.finish());
+        }
+
+        return new WorkerCalendarResponse(from, until, workers);
+    }
+
+    private static final class WorkerSweep {
+
+        private final Long workerId;
+        private final String firstName;
+        private final String lastName;
+        private final LocalDate until;
+        private final List<AvailabilityPeriodDto> periods = new ArrayList<>();
+
+        // First day that is not covered by an emitted period yet
+        private LocalDate cursor;
+        private LocalDate busyStart;
+        private LocalDate busyEnd;
+        private List<Long> busySiteIds;
+
+        private WorkerSweep(WorkerSitePeriodProjection row, LocalDate from, LocalDate until) {
+            this.workerId = row.getWorkerId();
+            this.firstName = row.getWorkerFirstName();
+            this.lastName = row.getWorkerLastName();
+            this.until = until;
+            this.cursor = from;
+        }
+
+        private void add(Long siteId, LocalDate start, LocalDate end) {
+            LocalDate clippedStart = start.isBefore(cursor) ? cursor : start;
+            LocalDate clippedEnd = end.isAfter(until) ? until : end;
+
+            if (busyStart != null && !clippedStart.isAfter(busyEnd.plusDays(1))) {
+                if (clippedEnd.isAfter(busyEnd)) {
+                    busyEnd = clippedEnd;
+                }
+                busySiteIds.add(siteId);
+                return;
+            }
+
+            closeBusyPeriod();
+            if (clippedStart.isAfter(cursor)) {
+                periods.add(AvailabilityPeriodDto.free(cursor, clippedStart.minusDays(1)));
+            }
+            busyStart = clippedStart;
+            busyEnd = clippedEnd;
+            busySiteIds = new ArrayList<>();
+            busySiteIds.add(siteId);
+        }
+
+        private void closeBusyPeriod() {
+            if (busyStart != null) {
+                periods.add(AvailabilityPeriodDto.busy(busyStart, busyEnd, busySiteIds));
+                cursor = busyEnd.plusDays(1);
+                busyStart = null;
+            }
+        }
+
+        private WorkerCalendarDto finish() {
+            closeBusyPeriod();
+            if (!cursor.isAfter(until)) {
+                periods.add(AvailabilityPeriodDto.free(cursor, until));
+            }
+            return new WorkerCalendarDto(workerId, firstName, lastName, periods);
+        }
+    }
+}
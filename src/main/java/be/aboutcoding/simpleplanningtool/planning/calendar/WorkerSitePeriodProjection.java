@@ -0,0 +1,12 @@
+package be.aboutcoding.simpleplanningtool.planning.calendar;
+
+import java.time.LocalDate;
+
+public interface WorkerSitePeriodProjection {
+    Long getWorkerId();
+    String getWorkerFirstName();
+    String getWorkerLastName();
+    Long getLinkedSiteId();
+    LocalDate getPeriodStart();
+    LocalDate getPeriodEnd();
+}
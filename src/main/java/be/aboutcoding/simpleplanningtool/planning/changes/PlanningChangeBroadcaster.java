@@ -0,0 +1,201 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningProperties;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans the recorded planning changes of every instance out to the open change streams of this one. Each subscriber
+ * gets its own bounded queue, drained by its own virtual thread, so the feed never waits for a client and an idle
+ * stream only costs a parked virtual thread. The last changes are kept, so a client that reconnects gets the ones it
+ * missed.
+ */
+@Component
+public class PlanningChangeBroadcaster {
+
+    /**
+     * Sent instead of the missed changes when they are no longer kept, the client fetches its screens again.
+     */
+    public static final String RESET_EVENT = "RESET";
+
+    private final PlanningProperties.Changes properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // One permit per subscriber, taken before it is added and given back when it is removed
+    private final Semaphore permits;
+
+    // Guards the history, so a new subscriber gets every change exactly once: from the history or from its queue
+    private final Lock historyLock = new ReentrantLock();
+    private final Deque<PlanningChangeMessage> history = new ArrayDeque<>();
+    // Every change after this id is in the history
+    private long historyFloor = Long.MAX_VALUE;
+    private long lastEventId;
+
+    public PlanningChangeBroadcaster(PlanningProperties properties) {
+        this.properties = properties.changes();
+        this.permits = new Semaphore(this.properties.maxSubscribers());
+    }
+
+    /**
+     * @param lastEventId the id of the last change the client received, null for a new client
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (!permits.tryAcquire()) {
+            throw new TooManySubscribersException(properties.maxSubscribers());
+        }
+
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(properties.queueSize()));
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        historyLock.lock();
+        try {
+            subscribers.add(subscriber);
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            subscriber.close();
+            return emitter;
+        } finally {
+            historyLock.unlock();
+        }
+        subscriber.start();
+        return emitter;
+    }
+
+    /**
+     * Starts the history: only changes after the given id can be replayed.
+     */
+    public void replayableAfter(long eventId) {
+        historyLock.lock();
+        try {
+            history.clear();
+            historyFloor = eventId;
+            lastEventId = eventId;
+        } finally {
+            historyLock.unlock();
+        }
+    }
+
+    /**
+     * Called by the {@link PlanningEventFeed} for every recorded change, in the order of their ids.
+     */
+    public void publish(PlanningChangeMessage message) {
+        historyLock.lock();
+        try {
+            history.addLast(message);
+            lastEventId = message.id();
+            if (history.size() > properties.history()) {
+                historyFloor = history.removeFirst().id();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(message)) {
+                    // Too far behind to catch up, it reconnects and gets the missed changes from the history
+                    subscriber.emitter.complete();
+                    subscriber.close();
+                }
+            }
+        } finally {
+            historyLock.unlock();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // Runs before the drain thread starts, so these events go out before anything in the queue
+    private void replay(Subscriber subscriber, long since) throws IOException {
+        if (since < historyFloor) {
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(String.valueOf(lastEventId))
+                    .name(RESET_EVENT)
+                    .data(""));
+            return;
+        }
+        for (PlanningChangeMessage message : history) {
+            if (message.id() > since) {
+                subscriber.send(message);
+            }
+        }
+    }
+
+    // Tests stand in for a client that stops reading here
+    SseEmitter createEmitter() {
+        return new SseEmitter(properties.timeout().toMillis());
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<PlanningChangeMessage> queue;
+        private Thread thread;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<PlanningChangeMessage> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private void start() {
+            thread = Thread.ofVirtual().name("planning-changes").start(this::drain);
+        }
+
+        private void drain() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    PlanningChangeMessage message = queue.poll(properties.heartbeat().toMillis(), TimeUnit.MILLISECONDS);
+                    if (message == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        send(message);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter completed, the emitter callbacks clean up
+                emitter.completeWithError(e);
+            } finally {
+                remove();
+            }
+        }
+
+        private void send(PlanningChangeMessage message) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(message.id()))
+                    .name(message.type().name())
+                    .data(message, MediaType.APPLICATION_JSON));
+        }
+
+        private void close() {
+            remove();
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        // Called from the drain thread and the emitter callbacks, only the first call gives the permit back
+        private void remove() {
+            if (subscribers.remove(this)) {
+                permits.release();
+            }
+        }
+    }
+}
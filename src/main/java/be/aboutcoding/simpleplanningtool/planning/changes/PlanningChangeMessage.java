@@ -0,0 +1,16 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+
+import java.time.LocalDate;
+
+/**
+ * What a client receives for a committed change: enough to decide whether the dates on its screen are affected and
+ * need to be fetched again, not the changed data itself. Without dates, everything can be affected.
+ */
+public record PlanningChangeMessage(long id, PlanningChangedEvent.Type type, LocalDate from, LocalDate until) {
+
+    static PlanningChangeMessage from(PlanningEvent event) {
+        return new PlanningChangeMessage(event.getId(), event.getType(), event.getFromDate(), event.getUntilDate());
+    }
+}
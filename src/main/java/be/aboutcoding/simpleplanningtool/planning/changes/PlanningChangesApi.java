@@ -0,0 +1,59 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import be.aboutcoding.simpleplanningtool.bulkhead.Bulkhead;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Tells clients what changed in the planning, so they only fetch the affected dates again. Screens listen to the
+ * stream, consumers that sync in batches page through the recorded changes.
+ */
+@RestController
+@RequestMapping("/planning/changes")
+public class PlanningChangesApi {
+
+    private final PlanningChangeBroadcaster broadcaster;
+    private final PlanningEventRepository planningEventRepository;
+
+    public PlanningChangesApi(PlanningChangeBroadcaster broadcaster, PlanningEventRepository planningEventRepository) {
+        this.broadcaster = broadcaster;
+        this.planningEventRepository = planningEventRepository;
+    }
+
+    @GetMapping
+    @Transactional(readOnly = true)
+    @Bulkhead("planning")
+    public ResponseEntity<PlanningChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") @Min(0) long since,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit) {
+
+        List<PlanningChangeMessage> changes = planningEventRepository
+                .findByIdGreaterThanOrderByIdAsc(since, Limit.of(limit)).stream()
+                .map(PlanningChangeMessage::from)
+                .toList();
+        long next = changes.isEmpty() ? since : changes.getLast().id();
+        return ResponseEntity.ok(new PlanningChangesResponse(changes, next));
+    }
+
+    /**
+     * Not transactional and not behind a bulkhead: a stream holds neither a connection nor a permit. The ids in the
+     * stream are the ids of the recorded changes, so a client that reconnects, to any instance, gets the changes it
+     * missed, or a {@value PlanningChangeBroadcaster#RESET_EVENT} event when they are no longer kept.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return broadcaster.subscribe(lastEventId);
+    }
+}
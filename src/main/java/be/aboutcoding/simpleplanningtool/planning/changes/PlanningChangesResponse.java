@@ -0,0 +1,10 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import java.util.List;
+
+/**
+ * @param changes the recorded changes after the requested id, oldest first
+ * @param next    the id to ask the next page for, also when there were no changes
+ */
+public record PlanningChangesResponse(List<PlanningChangeMessage> changes, long next) {
+}
@@ -0,0 +1,33 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "planning_events")
+@Data
+@NoArgsConstructor
+public class PlanningEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type")
+    private PlanningChangedEvent.Type type;
+
+    @Column(name = "from_date")
+    private LocalDate fromDate;
+
+    @Column(name = "until_date")
+    private LocalDate untilDate;
+
+    @Column(name = "occurred_at", insertable = false, updatable = false)
+    private Instant occurredAt;
+}
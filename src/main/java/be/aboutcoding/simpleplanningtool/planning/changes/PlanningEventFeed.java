@@ -0,0 +1,142 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import be.aboutcoding.simpleplanningtool.planning.PlanningProperties;
+import be.aboutcoding.simpleplanningtool.planning.cache.PlanningCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Follows the changes recorded by every instance. A change is evicted from the local planning cache before it
+ * counts as seen, so nothing that reads {@link #lastEventId()} can get cached data from before that change, and is
+ * then pushed to the open change streams. A virtual thread polls the outbox in the background.
+ */
+@Component
+public class PlanningEventFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PlanningEventFeed.class);
+    private static final int BATCH_SIZE = 500;
+    private static final long NOT_STARTED = -1;
+
+    private final PlanningEventRepository planningEventRepository;
+    private final PlanningCache planningCache;
+    private final PlanningChangeBroadcaster broadcaster;
+    private final int history;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration pollInterval;
+
+    // One poll at a time, so the feed never holds more than one connection
+    private final Lock pollLock = new ReentrantLock();
+    private volatile long lastEventId = NOT_STARTED;
+    private volatile Thread poller;
+
+    public PlanningEventFeed(PlanningEventRepository planningEventRepository, PlanningCache planningCache,
+                             PlanningChangeBroadcaster broadcaster, PlanningProperties properties, PlatformTransactionManager transactionManager) {
+        this.planningEventRepository = planningEventRepository;
+        this.planningCache = planningCache;
+        this.broadcaster = broadcaster;
+        this.history = properties.changes().history();
+        this.pollInterval = properties.changes().pollInterval();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * The id of the last recorded change this instance has seen. Only reads from the database before the first poll.
+     */
+    public long lastEventId() {
+        if (lastEventId == NOT_STARTED) {
+            poll();
+        }
+        return lastEventId;
+    }
+
+    /**
+     * Changes of this instance are picked up right after their commit, so a client that made a change never gets an
+     * older revision afterwards. Changes of other instances wait for the next poll.
+     */
+    @TransactionalEventListener
+    public void onPlanningChanged(PlanningChangedEvent event) {
+        poll();
+    }
+
+    @Override
+    public void start() {
+        poller = Thread.ofVirtual().name("planning-event-feed").start(this::pollUntilStopped);
+    }
+
+    @Override
+    public void stop() {
+        poller.interrupt();
+        poller = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return poller != null;
+    }
+
+    private void pollUntilStopped() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                // The database is unreachable, the revision stays where it is until it comes back
+                log.warn("Polling the planning events failed", e);
+            }
+            try {
+                Thread.sleep(pollInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    public void poll() {
+        pollLock.lock();
+        try {
+            if (lastEventId == NOT_STARTED) {
+                // Nothing is cached yet, so there is nothing to evict, only the history of the streams to fill
+                long lastId = readOnlyTransaction.execute(status -> planningEventRepository.findLastId());
+                long floor = Math.max(0, lastId - history);
+                broadcaster.replayableAfter(floor);
+                readOnlyTransaction.execute(status -> planningEventRepository.findByIdGreaterThanOrderByIdAsc(
+                                floor, Limit.of(history)))
+                        .stream()
+                        .filter(event -> event.getId() <= lastId)
+                        .map(PlanningChangeMessage::from)
+                        .forEach(broadcaster::publish);
+                lastEventId = lastId;
+                return;
+            }
+
+            List<PlanningEvent> events;
+            do {
+                long since = lastEventId;
+                events = readOnlyTransaction.execute(status ->
+                        planningEventRepository.findByIdGreaterThanOrderByIdAsc(since, Limit.of(BATCH_SIZE)));
+                for (PlanningEvent event : events) {
+                    planningCache.evict(new PlanningChangedEvent(
+                            event.getType(), event.getFromDate(), event.getUntilDate()));
+                    lastEventId = event.getId();
+                    broadcaster.publish(PlanningChangeMessage.from(event));
+                }
+            } while (events.size() == BATCH_SIZE);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records every planning change in the outbox, in the transaction of the change itself.
+ */
+@Component
+public class PlanningEventOutbox {
+
+    private final PlanningEventRepository planningEventRepository;
+
+    public PlanningEventOutbox(PlanningEventRepository planningEventRepository) {
+        this.planningEventRepository = planningEventRepository;
+    }
+
+    /**
+     * Written just before the commit, after all rows of the change are locked, so the outbox lock is held as
+     * short as possible and never taken before a row lock.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPlanningChanged(PlanningChangedEvent event) {
+        planningEventRepository.append(event.type().name(), event.from(), event.until());
+    }
+
+    /**
+     * A change published outside a transaction would not be recorded, so other instances and reconnecting clients
+     * would never hear of it. The publisher fails instead.
+     */
+    @EventListener
+    public void requireTransaction(PlanningChangedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalTransactionStateException(
+                    "Planning changes must be published inside the transaction that makes them: " + event);
+        }
+    }
+}
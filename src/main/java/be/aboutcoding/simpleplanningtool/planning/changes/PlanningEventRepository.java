@@ -0,0 +1,38 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PlanningEventRepository extends JpaRepository<PlanningEvent, Long> {
+
+    /**
+     * Ids are taken in commit order: the transaction-level lock is held from the insert until the commit, so a
+     * consumer that has read up to an id never misses a smaller id that commits later. Only takes part in the
+     * transaction of the change, so the change and its record commit together.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = """
+            INSERT INTO planning_events (type, from_date, until_date)
+            SELECT :type, CAST(:fromDate AS DATE), CAST(:untilDate AS DATE)
+            FROM (SELECT pg_advisory_xact_lock(hashtext('planning_events'))) AS serialized
+            """, nativeQuery = true)
+    void append(@Param("type") String type,
+                @Param("fromDate") LocalDate fromDate,
+                @Param("untilDate") LocalDate untilDate);
+
+    List<PlanningEvent> findByIdGreaterThanOrderByIdAsc(Long since, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM PlanningEvent e")
+    long findLastId();
+}
@@ -0,0 +1,8 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+public class TooManySubscribersException extends RuntimeException {
+
+    public TooManySubscribersException(int maxSubscribers) {
+        super("The planning change stream already has " + maxSubscribers + " subscribers");
+    }
+}
@@ -1,25 +1,40 @@
 package be.aboutcoding.simpleplanningtool.planning.dayplanning;
 
 import be.aboutcoding.simpleplanningtool.planning.PlanningRepository;
+import be.aboutcoding.simpleplanningtool.planning.cache.PlanningCache;
 import be.aboutcoding.simpleplanningtool.planning.model.DayOverview;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Component
+@Timed("planning.usecase")
 public class DayPlanningFlowController {
 
     private final PlanningRepository planningRepository;
     private final PlannedSiteMapper plannedSiteMapper;
+    private final PlanningCache planningCache;
 
-    public DayPlanningFlowController(PlanningRepository planningRepository, PlannedSiteMapper plannedSiteMapper) {
+    public DayPlanningFlowController(PlanningRepository planningRepository, PlannedSiteMapper plannedSiteMapper,
+                                     PlanningCache planningCache) {
         this.planningRepository = planningRepository;
         this.plannedSiteMapper = plannedSiteMapper;
+        this.planningCache = planningCache;
     }
 
     public DayOverview execute(LocalDate date) {
-        List<RawPlannedSiteProjection> rawData = planningRepository.findActiveSitesOnDate(date);
-        return plannedSiteMapper.toDayOverview(date, rawData);
+        return planningCache.get("day-overview", date, date, () -> {
+            List<RawPlannedSiteProjection> rawData = planningRepository.findActiveSitesOnDate(date);
+            return plannedSiteMapper.toDayOverview(date, rawData);
+        });
+    }
+
+    public List<DayOverview> execute(LocalDate from, LocalDate until) {
+        return planningCache.get("day-overviews", from, until, () -> {
+            List<RawPlannedSiteDayProjection> rawData = planningRepository.findActiveSitesBetween(from, until);
+            return plannedSiteMapper.toDayOverviews(from, until, rawData);
+        });
     }
 }
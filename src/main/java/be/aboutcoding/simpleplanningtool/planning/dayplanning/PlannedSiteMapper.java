@@ -15,27 +15,54 @@ public class PlannedSiteMapper {
         Map<Long, PlannedSite> plannedSiteMap = new HashMap<>();
 
         for (RawPlannedSiteProjection raw : rawData) {
-            Long siteId = raw.getSiteId();
-
-            PlannedSite site = plannedSiteMap.get(siteId);
-            if (site == null) {
-                site = new PlannedSite(
-                        raw.getSiteId(),
-                        raw.getSiteName(),
-                        raw.getExecutionDate(),
-                        raw.getDurationInDays(),
-                        raw.getEndDate(),
-                        raw.getDaysRemaining(),
-                        raw.getSiteStatus());
-                plannedSiteMap.put(siteId, site);
-            }
+            addRow(plannedSiteMap, raw);
+        }
+
+        return new DayOverview(date, plannedSiteMap.values().stream().toList());
+    }
+
+    /**
+     * Maps the rows of a date range into one {@link DayOverview} per day, days without sites included.
+     * The rows need to be sorted by overview date, which lets us group them in a single pass.
+     */
+    public List<DayOverview> toDayOverviews(LocalDate from, LocalDate until, List<RawPlannedSiteDayProjection> rawData) {
+        List<DayOverview> dayOverviews = new ArrayList<>();
+        Iterator<RawPlannedSiteDayProjection> rows = rawData.iterator();
+        RawPlannedSiteDayProjection raw = rows.hasNext() ? rows.next() : null;
 
-            if (raw.getWorkerId() != null) {
-                WorkerView worker = new WorkerView(raw.getWorkerId(), raw.getWorkerFirstName(), raw.getWorkerLastName());
-                site.addWorker(worker);
+        for (LocalDate date = from; !date.isAfter(until); date = date.plusDays(1)) {
+            Map<Long, PlannedSite> plannedSiteMap = new LinkedHashMap<>();
+
+            while (raw != null && raw.getOverviewDate().equals(date)) {
+                addRow(plannedSiteMap, raw);
+                raw = rows.hasNext() ? rows.next() : null;
             }
+
+            dayOverviews.add(new DayOverview(date, plannedSiteMap.values().stream().toList()));
         }
 
-        return new DayOverview(date, plannedSiteMap.values().stream().toList());
+        return dayOverviews;
+    }
+
+    private void addRow(Map<Long, PlannedSite> plannedSiteMap, RawPlannedSiteProjection raw) {
+        Long siteId = raw.getSiteId();
+
+        PlannedSite site = plannedSiteMap.get(siteId);
+        if (site == null) {
+            site = new PlannedSite(
+                    raw.getSiteId(),
+                    raw.getSiteName(),
+                    raw.getExecutionDate(),
+                    raw.getDurationInDays(),
+                    raw.getEndDate(),
+                    raw.getDaysRemaining(),
+                    raw.getSiteStatus());
+            plannedSiteMap.put(siteId, site);
+        }
+
+        if (raw.getWorkerId() != null) {
+            WorkerView worker = new WorkerView(raw.getWorkerId(), raw.getWorkerFirstName(), raw.getWorkerLastName());
+            site.addWorker(worker);
+        }
     }
 }
@@ -0,0 +1,7 @@
+package be.aboutcoding.simpleplanningtool.planning.dayplanning;
+
+import java.time.LocalDate;
+
+public interface RawPlannedSiteDayProjection extends RawPlannedSiteProjection {
+    LocalDate getOverviewDate();
+}
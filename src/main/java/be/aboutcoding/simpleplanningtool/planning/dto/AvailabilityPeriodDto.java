@@ -0,0 +1,26 @@
+package be.aboutcoding.simpleplanningtool.planning.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record AvailabilityPeriodDto(
+        LocalDate from,
+        LocalDate until,
+        AvailabilityStatus status,
+        @JsonProperty("site_ids") List<Long> siteIds
+) {
+    public enum AvailabilityStatus {
+        FREE,
+        BUSY
+    }
+
+    public static AvailabilityPeriodDto free(LocalDate from, LocalDate until) {
+        return new AvailabilityPeriodDto(from, until, AvailabilityStatus.FREE, List.of());
+    }
+
+    public static AvailabilityPeriodDto busy(LocalDate from, LocalDate until, List<Long> siteIds) {
+        return new AvailabilityPeriodDto(from, until, AvailabilityStatus.BUSY, List.copyOf(siteIds));
+    }
+}
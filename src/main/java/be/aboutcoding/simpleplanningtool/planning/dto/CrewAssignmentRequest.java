@@ -0,0 +1,24 @@
+package be.aboutcoding.simpleplanningtool.planning.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Every worker on every site, so a crew on one site and one worker on many sites are both one request.
+ */
+public record CrewAssignmentRequest(
+        @NotEmpty(message = "site_ids is mandatory")
+        @Size(max = 100, message = "at most 100 site_ids can be assigned at once")
+        @JsonProperty("site_ids")
+        List<@NotNull Long> siteIds,
+
+        @NotEmpty(message = "worker_ids is mandatory")
+        @Size(max = 100, message = "at most 100 worker_ids can be assigned at once")
+        @JsonProperty("worker_ids")
+        List<@NotNull Long> workerIds
+) {
+}
@@ -1,6 +1,6 @@
 package be.aboutcoding.simpleplanningtool.planning.dto;
 
-import be.aboutcoding.simpleplanningtool.worker.Worker;
+import be.aboutcoding.simpleplanningtool.planning.model.WorkerAvailability;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public record IdleWorkerDto(
@@ -8,11 +8,11 @@ public record IdleWorkerDto(
         @JsonProperty("first_name") String firstName,
         @JsonProperty("last_name") String lastName
 ) {
-    public static IdleWorkerDto from(Worker worker) {
+    public static IdleWorkerDto from(WorkerAvailability worker) {
         return new IdleWorkerDto(
-                worker.getId(),
-                worker.getFirstName(),
-                worker.getLastName()
+                worker.workerId(),
+                worker.firstName(),
+                worker.lastName()
         );
     }
 }
@@ -1,6 +1,6 @@
 package be.aboutcoding.simpleplanningtool.planning.dto;
 
-import be.aboutcoding.simpleplanningtool.worker.Worker;
+import be.aboutcoding.simpleplanningtool.planning.model.WorkerAvailability;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDate;
@@ -10,7 +10,7 @@ public record IdleWorkersResponse(
         LocalDate date,
         @JsonProperty("idle_workers") List<IdleWorkerDto> idleWorkers
 ) {
-    public static IdleWorkersResponse from(LocalDate date, List<Worker> idleWorkers) {
+    public static IdleWorkersResponse from(LocalDate date, List<WorkerAvailability> idleWorkers) {
         List<IdleWorkerDto> idleWorkerDtos = idleWorkers.stream()
                 .map(IdleWorkerDto::from)
                 .toList();
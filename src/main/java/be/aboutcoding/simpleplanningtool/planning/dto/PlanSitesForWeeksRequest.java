@@ -0,0 +1,36 @@
+package be.aboutcoding.simpleplanningtool.planning.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Plans every site in every week, so one site across many weeks and many sites into one week are both one request.
+ */
+public record PlanSitesForWeeksRequest(
+        @NotEmpty(message = "site_ids is mandatory")
+        @Size(max = 100, message = "at most 100 site_ids can be planned at once")
+        @JsonProperty("site_ids")
+        List<@NotNull Long> siteIds,
+
+        @NotEmpty(message = "weeks is mandatory")
+        @Size(max = 106, message = "at most 106 weeks can be planned at once")
+        List<@Valid @NotNull Week> weeks
+) {
+    public record Week(
+            @NotNull(message = "week is mandatory")
+            @Min(value = 1, message = "week must be between 1 and 53")
+            @Max(value = 53, message = "week must be between 1 and 53")
+            Integer week,
+
+            @NotNull(message = "year is mandatory")
+            Integer year
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package be.aboutcoding.simpleplanningtool.planning.dto;
+
+import be.aboutcoding.simpleplanningtool.site.dto.OpenSiteResponse;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record PlannerDashboardResponse(
+        LocalDate date,
+        @JsonProperty("day_overview") DayOverviewResponse dayOverview,
+        @JsonProperty("idle_workers") IdleWorkersResponse idleWorkers,
+        @JsonProperty("worker_day_overview") WorkerDayOverviewResponse workerDayOverview,
+        @JsonProperty("unplanned_sites") List<OpenSiteResponse> unplannedSites
+) {
+}
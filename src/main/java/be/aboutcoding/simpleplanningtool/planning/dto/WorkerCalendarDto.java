@@ -0,0 +1,13 @@
+package be.aboutcoding.simpleplanningtool.planning.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record WorkerCalendarDto(
+        Long id,
+        @JsonProperty("first_name") String firstName,
+        @JsonProperty("last_name") String lastName,
+        List<AvailabilityPeriodDto> periods
+) {
+}
@@ -0,0 +1,11 @@
+package be.aboutcoding.simpleplanningtool.planning.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record WorkerCalendarResponse(
+        LocalDate from,
+        LocalDate until,
+        List<WorkerCalendarDto> workers
+) {
+}
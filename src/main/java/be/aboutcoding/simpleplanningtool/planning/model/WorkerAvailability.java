@@ -0,0 +1,19 @@
+package be.aboutcoding.simpleplanningtool.planning.model;
+
+import java.time.LocalDate;
+
+/**
+ * What a worker does on a given date: working on a site until a certain day, or idle when there is no site.
+ */
+public record WorkerAvailability(
+        Long workerId,
+        String firstName,
+        String lastName,
+        Long siteId,
+        String siteName,
+        LocalDate siteUntil
+) {
+    public boolean isIdle() {
+        return siteId == null;
+    }
+}
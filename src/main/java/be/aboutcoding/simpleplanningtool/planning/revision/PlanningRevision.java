@@ -0,0 +1,28 @@
+package be.aboutcoding.simpleplanningtool.planning.revision;
+
+import be.aboutcoding.simpleplanningtool.planning.changes.PlanningEventFeed;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * The last recorded planning change this instance has seen, which all instances share through the outbox. Two
+ * planning responses with the same ETag hold the same data, as long as the ETag was taken before the data was read.
+ */
+@Component
+public class PlanningRevision {
+
+    private final PlanningEventFeed planningEventFeed;
+
+    public PlanningRevision(PlanningEventFeed planningEventFeed) {
+        this.planningEventFeed = planningEventFeed;
+    }
+
+    /**
+     * Built from memory, the feed keeps the last event id up to date in the background. Includes today, because
+     * endpoints without dates default to the current day or month.
+     */
+    public String etag() {
+        return "\"" + planningEventFeed.lastEventId() + "-" + LocalDate.now() + "\"";
+    }
+}
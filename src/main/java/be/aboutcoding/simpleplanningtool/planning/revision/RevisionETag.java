@@ -0,0 +1,18 @@
+package be.aboutcoding.simpleplanningtool.planning.revision;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Tags the GET responses of the annotated endpoint, or of all endpoints of the annotated controller, with the
+ * current {@link PlanningRevision}. A request that already has the current revision gets a 304 without reaching the
+ * controller, see {@link RevisionETagInterceptor}.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RevisionETag {
+}
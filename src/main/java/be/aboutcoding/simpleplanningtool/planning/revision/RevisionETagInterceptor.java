@@ -0,0 +1,43 @@
+package be.aboutcoding.simpleplanningtool.planning.revision;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers conditional GETs on {@link RevisionETag} endpoints with a 304 when the planning did not change, before
+ * a bulkhead permit, a transaction or a query is taken. Other requests get the ETag to send along next time.
+ */
+@Component
+public class RevisionETagInterceptor implements HandlerInterceptor {
+
+    private final PlanningRevision planningRevision;
+
+    public RevisionETagInterceptor(PlanningRevision planningRevision) {
+        this.planningRevision = planningRevision;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !hasRevisionETag(handlerMethod)) {
+            return true;
+        }
+
+        // Clients may keep the response, but have to check the ETag before using it again
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return !new ServletWebRequest(request, response).checkNotModified(planningRevision.etag());
+    }
+
+    private boolean hasRevisionETag(HandlerMethod handlerMethod) {
+        return handlerMethod.hasMethodAnnotation(RevisionETag.class)
+                || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), RevisionETag.class);
+    }
+}
@@ -1,25 +1,24 @@
 package be.aboutcoding.simpleplanningtool.planning.workerday;
 
-import be.aboutcoding.simpleplanningtool.planning.PlanningRepository;
 import be.aboutcoding.simpleplanningtool.planning.dto.WorkerDayOverviewResponse;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Component
+@Timed("planning.usecase")
 public class GetDayOverviewWorkers {
 
-    private final PlanningRepository planningRepository;
+    private final GetWorkerAvailability getWorkerAvailability;
     private final WorkerDayOverviewMapper mapper;
 
-    public GetDayOverviewWorkers(PlanningRepository planningRepository, WorkerDayOverviewMapper mapper) {
-        this.planningRepository = planningRepository;
+    public GetDayOverviewWorkers(GetWorkerAvailability getWorkerAvailability, WorkerDayOverviewMapper mapper) {
+        this.getWorkerAvailability = getWorkerAvailability;
         this.mapper = mapper;
     }
 
     public WorkerDayOverviewResponse execute(LocalDate date) {
-        List<WorkerDayDetailProjection> projections = planningRepository.findWorkerDayOverview(date);
-        return mapper.toResponse(date, projections);
+        return mapper.toResponse(date, getWorkerAvailability.execute(date));
     }
 }
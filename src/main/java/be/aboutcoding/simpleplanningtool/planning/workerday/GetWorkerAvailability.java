@@ -0,0 +1,40 @@
+package be.aboutcoding.simpleplanningtool.planning.workerday;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningRepository;
+import be.aboutcoding.simpleplanningtool.planning.cache.PlanningCache;
+import be.aboutcoding.simpleplanningtool.planning.model.WorkerAvailability;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Availability of every worker on a date, sorted by worker id. Both the idle workers and the worker day overview
+ * are derived from it, so opening both screens for the same date only queries once.
+ */
+@Component
+@Timed("planning.usecase")
+public class GetWorkerAvailability {
+
+    private final PlanningRepository planningRepository;
+    private final PlanningCache planningCache;
+
+    public GetWorkerAvailability(PlanningRepository planningRepository, PlanningCache planningCache) {
+        this.planningRepository = planningRepository;
+        this.planningCache = planningCache;
+    }
+
+    public List<WorkerAvailability> execute(LocalDate date) {
+        return planningCache.get("worker-availability", date, date, () -> planningRepository.findWorkerAvailability(date)
+                .stream()
+                .map(row -> new WorkerAvailability(
+                        row.getWorkerId(),
+                        row.getWorkerFirstName(),
+                        row.getWorkerLastName(),
+                        row.getLinkedSiteId(),
+                        row.getLinkedSiteName(),
+                        row.getSiteUntil()))
+                .toList());
+    }
+}
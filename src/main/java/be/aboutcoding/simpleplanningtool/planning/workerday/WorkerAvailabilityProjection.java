@@ -2,10 +2,11 @@ package be.aboutcoding.simpleplanningtool.planning.workerday;
 
 import java.time.LocalDate;
 
-public interface WorkerDayDetailProjection {
+public interface WorkerAvailabilityProjection {
     Long getWorkerId();
     String getWorkerFirstName();
     String getWorkerLastName();
+    Long getLinkedSiteId();
     String getLinkedSiteName();
     LocalDate getSiteUntil();
 }
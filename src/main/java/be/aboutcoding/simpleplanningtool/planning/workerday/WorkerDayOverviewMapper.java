@@ -3,6 +3,7 @@ package be.aboutcoding.simpleplanningtool.planning.workerday;
 import be.aboutcoding.simpleplanningtool.planning.dto.CurrentSiteDto;
 import be.aboutcoding.simpleplanningtool.planning.dto.WorkerDayDetailDto;
 import be.aboutcoding.simpleplanningtool.planning.dto.WorkerDayOverviewResponse;
+import be.aboutcoding.simpleplanningtool.planning.model.WorkerAvailability;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -11,28 +12,28 @@ import java.util.List;
 @Component
 public class WorkerDayOverviewMapper {
 
-    public WorkerDayOverviewResponse toResponse(LocalDate date, List<WorkerDayDetailProjection> projections) {
-        List<WorkerDayDetailDto> dayOverview = projections.stream()
+    public WorkerDayOverviewResponse toResponse(LocalDate date, List<WorkerAvailability> availability) {
+        List<WorkerDayDetailDto> dayOverview = availability.stream()
                 .map(this::toWorkerDayDetailDto)
                 .toList();
 
         return new WorkerDayOverviewResponse(date, dayOverview);
     }
 
-    private WorkerDayDetailDto toWorkerDayDetailDto(WorkerDayDetailProjection projection) {
+    private WorkerDayDetailDto toWorkerDayDetailDto(WorkerAvailability worker) {
         CurrentSiteDto currentSite = null;
 
-        if (projection.getLinkedSiteName() != null) {
+        if (!worker.isIdle()) {
             currentSite = new CurrentSiteDto(
-                    projection.getLinkedSiteName(),
-                    projection.getSiteUntil()
+                    worker.siteName(),
+                    worker.siteUntil()
             );
         }
 
         return new WorkerDayDetailDto(
-                projection.getWorkerId(),
-                projection.getWorkerFirstName(),
-                projection.getWorkerLastName(),
+                worker.workerId(),
+                worker.firstName(),
+                worker.lastName(),
                 currentSite
         );
     }
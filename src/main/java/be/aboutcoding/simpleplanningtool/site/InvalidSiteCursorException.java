@@ -0,0 +1,8 @@
+package be.aboutcoding.simpleplanningtool.site;
+
+public class InvalidSiteCursorException extends RuntimeException {
+
+    public InvalidSiteCursorException(String cursor) {
+        super("Site cursor " + cursor + " is not valid");
+    }
+}
@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "sites")
@@ -45,13 +45,15 @@ public class Site {
     @Enumerated(EnumType.STRING)
     private SiteStatus status;
 
+    // A set, so linking or unlinking a worker inserts or deletes one row instead of rewriting the whole crew
     @ManyToMany
+    @OrderBy("id")
     @JoinTable(
             name = "site_workers",
             joinColumns = @JoinColumn(name = "site_id"),
             inverseJoinColumns = @JoinColumn(name = "worker_id")
     )
-    private List<Worker> workers;
+    private Set<Worker> workers;
 
     public Site(String name, Integer durationInDays) {
         if (name == null) {
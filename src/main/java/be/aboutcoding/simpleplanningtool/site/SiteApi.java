@@ -1,5 +1,7 @@
 package be.aboutcoding.simpleplanningtool.site;
 
+import be.aboutcoding.simpleplanningtool.bulkhead.Bulkhead;
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
 import be.aboutcoding.simpleplanningtool.site.dto.CreateSiteRequest;
 import be.aboutcoding.simpleplanningtool.site.dto.CustomerResponse;
 import be.aboutcoding.simpleplanningtool.site.dto.OpenSiteResponse;
@@ -8,6 +10,10 @@ import be.aboutcoding.simpleplanningtool.site.dto.UpdateSiteRequest;
 import be.aboutcoding.simpleplanningtool.site.dto.WorkerResponse;
 import be.aboutcoding.simpleplanningtool.worker.Worker;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +23,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.Instant;
@@ -28,44 +35,108 @@ import java.util.List;
 @RestController
 @RequestMapping("/sites")
 @Transactional
+@Bulkhead("crud")
 public class SiteApi {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     private final SiteRepository siteRepository;
     private final CustomerRepository customerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SiteApi(SiteRepository siteRepository, CustomerRepository customerRepository) {
+    public SiteApi(SiteRepository siteRepository, CustomerRepository customerRepository,
+                   ApplicationEventPublisher eventPublisher) {
         this.siteRepository = siteRepository;
         this.customerRepository = customerRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @PostMapping
     public ResponseEntity<Long> createSite(@Valid @RequestBody CreateSiteRequest request) {
         Site site = request.toSite();
         Site savedSite = siteRepository.save(site);
+
+        // A new site has no execution date yet, it only shows up in the unplanned sites
+        eventPublisher.publishEvent(PlanningChangedEvent.everything(PlanningChangedEvent.Type.SITE_CHANGED));
         return ResponseEntity.ok(savedSite.getId());
     }
 
     @GetMapping("/open")
-    public ResponseEntity<List<OpenSiteResponse>> getAllOpenSites() {
-        List<Site> openSites = siteRepository.findByStatusOrderByCreationDateAsc(SiteStatus.OPEN);
-        List<OpenSiteResponse> response = openSites.stream()
-                .map(OpenSiteResponse::from)
-                .toList();
-        return ResponseEntity.ok(response);
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<OpenSiteResponse>> getAllOpenSites(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) @Min(1) @Max(1000) Integer limit) {
+
+        // Clients that do not page get the whole list, as before paging was added
+        if (after == null && limit == null) {
+            return ResponseEntity.ok(toResponse(
+                    siteRepository.findByStatusOrderByCreationDateAscIdAsc(SiteStatus.OPEN, Limit.unlimited())));
+        }
+
+        // Fetch one site more than asked, to know if there is a next page
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        Limit pageLimit = Limit.of(pageSize + 1);
+        List<Site> openSites = after == null
+                ? siteRepository.findByStatusOrderByCreationDateAscIdAsc(SiteStatus.OPEN, pageLimit)
+                : findOpenSitesAfter(SiteCursor.decode(after), pageLimit);
+        return toPage(openSites, pageSize);
     }
 
     @GetMapping("/unplanned")
-    public ResponseEntity<List<OpenSiteResponse>> getUnplannedOpenSites() {
-        List<Site> unplannedSites = siteRepository.findByStatusAndExecutionDateIsNull(SiteStatus.OPEN);
-        List<OpenSiteResponse> response = unplannedSites.stream()
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<OpenSiteResponse>> getUnplannedOpenSites(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) @Min(1) @Max(1000) Integer limit) {
+
+        // Clients that do not page get the whole list, as before paging was added
+        if (after == null && limit == null) {
+            return ResponseEntity.ok(toResponse(siteRepository.findByStatusAndExecutionDateIsNullOrderByCreationDateAscIdAsc(
+                    SiteStatus.OPEN, Limit.unlimited())));
+        }
+
+        // Fetch one site more than asked, to know if there is a next page
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        Limit pageLimit = Limit.of(pageSize + 1);
+        List<Site> unplannedSites = after == null
+                ? siteRepository.findByStatusAndExecutionDateIsNullOrderByCreationDateAscIdAsc(SiteStatus.OPEN, pageLimit)
+                : findUnplannedSitesAfter(SiteCursor.decode(after), pageLimit);
+        return toPage(unplannedSites, pageSize);
+    }
+
+    private List<Site> findOpenSitesAfter(SiteCursor cursor, Limit limit) {
+        return siteRepository.findByStatusAfter(SiteStatus.OPEN, cursor.creationDate(), cursor.id(), limit);
+    }
+
+    private List<Site> findUnplannedSitesAfter(SiteCursor cursor, Limit limit) {
+        return siteRepository.findByStatusAndExecutionDateIsNullAfter(
+                SiteStatus.OPEN, cursor.creationDate(), cursor.id(), limit);
+    }
+
+    private ResponseEntity<List<OpenSiteResponse>> toPage(List<Site> sites, int limit) {
+        boolean hasNextPage = sites.size() > limit;
+        List<Site> page = hasNextPage ? sites.subList(0, limit) : sites;
+
+        List<OpenSiteResponse> response = toResponse(page);
+
+        if (!hasNextPage) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, SiteCursor.of(page.getLast()).encode())
+                .body(response);
+    }
+
+    private List<OpenSiteResponse> toResponse(List<Site> sites) {
+        return sites.stream()
                 .map(OpenSiteResponse::from)
                 .toList();
-        return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteSite(@PathVariable Long id) {
         siteRepository.deleteById(id);
+        eventPublisher.publishEvent(PlanningChangedEvent.everything(PlanningChangedEvent.Type.SITE_CHANGED));
         return ResponseEntity.ok().build();
     }
 
@@ -91,14 +162,18 @@ public class SiteApi {
                     }
 
                     siteRepository.save(site);
+
+                    // Names and durations show up in every planning screen the site is part of
+                    eventPublisher.publishEvent(PlanningChangedEvent.everything(PlanningChangedEvent.Type.SITE_CHANGED));
                     return ResponseEntity.noContent().<Void>build();
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<SiteResponse> getSiteById(@PathVariable Long id) {
-        return siteRepository.findById(id)
+        return siteRepository.findWithCustomerAndWorkersById(id)
                 .map(SiteResponse::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -0,0 +1,35 @@
+package be.aboutcoding.simpleplanningtool.site;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a site listing, which is ordered by creation date and id. Clients receive it as an opaque string
+ * and pass it back to fetch the sites after it.
+ */
+public record SiteCursor(Instant creationDate, Long id) {
+
+    public static SiteCursor of(Site site) {
+        return new SiteCursor(site.getCreationDate(), site.getId());
+    }
+
+    public static SiteCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(",");
+            if (parts.length != 2) {
+                throw new InvalidSiteCursorException(value);
+            }
+            return new SiteCursor(Instant.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidSiteCursorException(value);
+        }
+    }
+
+    public String encode() {
+        String value = creationDate + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
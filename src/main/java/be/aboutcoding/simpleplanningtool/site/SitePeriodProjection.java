@@ -0,0 +1,9 @@
+package be.aboutcoding.simpleplanningtool.site;
+
+import java.time.LocalDate;
+
+public interface SitePeriodProjection {
+    Long getId();
+    LocalDate getExecutionDate();
+    Integer getDurationInDays();
+}
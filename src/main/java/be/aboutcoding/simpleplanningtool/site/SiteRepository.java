@@ -1,13 +1,18 @@
 package be.aboutcoding.simpleplanningtool.site;
 
 import be.aboutcoding.simpleplanningtool.planning.PlanningDataProjection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SiteRepository extends JpaRepository<Site, Long> {
@@ -18,7 +23,53 @@ public interface SiteRepository extends JpaRepository<Site, Long> {
             @Param("untilDate") LocalDate untilDate
     );
 
-    List<Site> findByStatusOrderByCreationDateAsc(SiteStatus status);
+    @Query(value = "SELECT * FROM get_planning_occupancy(:fromDate, :untilDate)", nativeQuery = true)
+    List<PlanningDataProjection> getPlanningOccupancyData(
+            @Param("fromDate") LocalDate fromDate,
+            @Param("untilDate") LocalDate untilDate
+    );
+
+    @Query("SELECT s.id FROM Site s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    List<SitePeriodProjection> findPeriodsByIdIn(Collection<Long> ids);
+
+    // Fetches the customer and workers together with the site, so the site details take one select
+    @EntityGraph(attributePaths = {"customer", "workers"})
+    Optional<Site> findWithCustomerAndWorkersById(Long id);
 
-    List<Site> findByStatusAndExecutionDateIsNull(SiteStatus status);
+    @EntityGraph(attributePaths = "customer")
+    List<Site> findByStatusOrderByCreationDateAscIdAsc(SiteStatus status, Limit limit);
+
+    @EntityGraph(attributePaths = "customer")
+    @Query("""
+            SELECT s FROM Site s
+            WHERE s.status = :status
+              AND (s.creationDate, s.id) > (:creationDate, :id)
+            ORDER BY s.creationDate ASC, s.id ASC
+            """)
+    List<Site> findByStatusAfter(
+            @Param("status") SiteStatus status,
+            @Param("creationDate") Instant creationDate,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @EntityGraph(attributePaths = "customer")
+    List<Site> findByStatusAndExecutionDateIsNullOrderByCreationDateAscIdAsc(SiteStatus status, Limit limit);
+
+    @EntityGraph(attributePaths = "customer")
+    @Query("""
+            SELECT s FROM Site s
+            WHERE s.status = :status
+              AND s.executionDate IS NULL
+              AND (s.creationDate, s.id) > (:creationDate, :id)
+            ORDER BY s.creationDate ASC, s.id ASC
+            """)
+    List<Site> findByStatusAndExecutionDateIsNullAfter(
+            @Param("status") SiteStatus status,
+            @Param("creationDate") Instant creationDate,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
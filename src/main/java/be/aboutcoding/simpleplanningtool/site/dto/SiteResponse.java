@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public record SiteResponse(
@@ -51,7 +52,7 @@ public record SiteResponse(
         );
     }
 
-    private static List<WorkerResponse> from(List<Worker> workers){
+    private static List<WorkerResponse> from(Collection<Worker> workers){
         if (workers == null) {
             return List.of();
         }
@@ -35,4 +35,21 @@ public class Worker {
         this.firstName = firstName;
         this.lastName = lastName;
     }
+
+    /**
+     * Workers are kept in the Set of a site, so equality follows the id only and the hash code never changes, not
+     * even when a new worker gets its id on persist.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof Worker worker && id != null && id.equals(worker.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Worker.class.hashCode();
+    }
 }
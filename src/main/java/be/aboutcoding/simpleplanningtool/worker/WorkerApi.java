@@ -1,10 +1,14 @@
 package be.aboutcoding.simpleplanningtool.worker;
 
+import be.aboutcoding.simpleplanningtool.bulkhead.Bulkhead;
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
 import be.aboutcoding.simpleplanningtool.worker.dto.CreateWorkerRequest;
 import be.aboutcoding.simpleplanningtool.worker.dto.UpdateWorkerRequest;
 import be.aboutcoding.simpleplanningtool.worker.dto.WorkerResponse;
 import jakarta.validation.Valid;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,20 +24,25 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/workers")
+@Bulkhead("crud")
 public class WorkerApi {
 
     private final WorkerRepository workerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public WorkerApi(WorkerRepository workerRepository) {
+    public WorkerApi(WorkerRepository workerRepository, ApplicationEventPublisher eventPublisher) {
         this.workerRepository = workerRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @PostMapping
+    @Transactional
     public ResponseEntity<Long> createWorker(@Valid @RequestBody CreateWorkerRequest request) {
         Worker worker = new Worker(request.firstName(), request.lastName());
         worker.setDateOfCreation(Timestamp.from(Instant.now()));
 
         Worker savedWorker = workerRepository.save(worker);
+        eventPublisher.publishEvent(PlanningChangedEvent.everything(PlanningChangedEvent.Type.WORKER_CHANGED));
 
         return ResponseEntity.ok(savedWorker.getId());
     }
@@ -61,6 +70,7 @@ public class WorkerApi {
     }
 
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<Void> updateWorker(@PathVariable Long id, @Valid @RequestBody UpdateWorkerRequest request) {
         Worker worker = workerRepository.findById(id)
                 .orElseThrow(() -> new WorkerNotFoundException(id));
@@ -68,13 +78,16 @@ public class WorkerApi {
         worker.setFirstName(request.firstName());
         worker.setLastName(request.lastName());
         workerRepository.save(worker);
+        eventPublisher.publishEvent(PlanningChangedEvent.everything(PlanningChangedEvent.Type.WORKER_CHANGED));
 
         return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteWorker(@PathVariable Long id) {
         workerRepository.deleteById(id);
+        eventPublisher.publishEvent(PlanningChangedEvent.everything(PlanningChangedEvent.Type.WORKER_CHANGED));
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,9 @@
+-- Site listings are paginated on (creation_date, id), which needs every site to have a creation date.
+-- Sites are always created with one, older rows without it are put in front of the listings.
+UPDATE sites SET creation_date = TIMESTAMP '1970-01-01 00:00:00' WHERE creation_date IS NULL;
+ALTER TABLE sites ALTER COLUMN creation_date SET NOT NULL;
+
+CREATE INDEX idx_sites_status_creation_date ON sites (site_status, creation_date, id);
+
+CREATE INDEX idx_sites_unplanned_creation_date ON sites (site_status, creation_date, id)
+    WHERE execution_date IS NULL;
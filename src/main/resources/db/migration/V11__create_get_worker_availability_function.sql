@@ -0,0 +1,33 @@
+-- One row per worker with the open site that keeps them busy on p_date, or no site when they are idle.
+-- Replaces get_worker_day_overview, which returned a row per linked site and so listed workers twice,
+-- and the NOT EXISTS query behind the idle workers endpoint.
+CREATE OR REPLACE FUNCTION get_worker_availability(p_date DATE)
+RETURNS TABLE (
+    worker_id BIGINT,
+    worker_first_name VARCHAR(255),
+    worker_last_name VARCHAR(255),
+    linked_site_id BIGINT,
+    linked_site_name VARCHAR(255),
+    site_until DATE
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT DISTINCT ON (w.id)
+        w.id AS worker_id,
+        w.first_name AS worker_first_name,
+        w.last_name AS worker_last_name,
+        s.id AS linked_site_id,
+        s.name AS linked_site_name,
+        (upper(s.active_period) - 1)::DATE AS site_until
+    FROM workers w
+    LEFT JOIN (site_workers sw
+        JOIN sites s ON s.id = sw.site_id
+            AND s.site_status = 'OPEN'
+            AND s.active_period @> p_date)
+        ON sw.worker_id = w.id
+    -- When a worker is on several sites that day, show the one that keeps them busy the longest
+    ORDER BY w.id ASC, upper(s.active_period) DESC NULLS LAST, s.id ASC;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP FUNCTION get_worker_day_overview(DATE);
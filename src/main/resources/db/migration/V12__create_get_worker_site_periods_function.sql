@@ -0,0 +1,30 @@
+-- Every worker with the periods of the open sites they are linked to that overlap [p_from, p_until].
+-- Workers without such a site get one row without a period, so they show up as free for the whole range.
+-- Rows are sorted per worker by period start, which is the order the availability calendar sweeps them in.
+CREATE OR REPLACE FUNCTION get_worker_site_periods(p_from DATE, p_until DATE)
+RETURNS TABLE (
+    worker_id BIGINT,
+    worker_first_name VARCHAR(255),
+    worker_last_name VARCHAR(255),
+    linked_site_id BIGINT,
+    period_start DATE,
+    period_end DATE
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT
+        w.id AS worker_id,
+        w.first_name AS worker_first_name,
+        w.last_name AS worker_last_name,
+        s.id AS linked_site_id,
+        lower(s.active_period) AS period_start,
+        (upper(s.active_period) - 1)::DATE AS period_end
+    FROM workers w
+    LEFT JOIN (site_workers sw
+        JOIN sites s ON s.id = sw.site_id
+            AND s.site_status = 'OPEN'
+            AND s.active_period && daterange(p_from, p_until, '[]'))
+        ON sw.worker_id = w.id
+    ORDER BY w.id ASC, lower(s.active_period) ASC NULLS FIRST, s.id ASC;
+END;
+$$ LANGUAGE plpgsql;
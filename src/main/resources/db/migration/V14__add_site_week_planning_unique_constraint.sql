@@ -0,0 +1,13 @@
+-- Planning a site twice in the same week used to add a second row, which the monthly overview counted twice.
+DELETE FROM site_week_planning duplicate
+USING site_week_planning original
+WHERE duplicate.site_id = original.site_id
+  AND duplicate.year = original.year
+  AND duplicate.week = original.week
+  AND duplicate.id > original.id;
+
+ALTER TABLE site_week_planning
+    ADD CONSTRAINT uq_site_week_planning_site_year_week UNIQUE (site_id, year, week);
+
+-- The unique index starts with site_id, so it also serves the lookups by site
+DROP INDEX idx_site_week_planning_site_id;
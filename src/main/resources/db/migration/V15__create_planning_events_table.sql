@@ -0,0 +1,8 @@
+-- Append-only outbox of committed planning changes, read by consumers that sync incrementally by id
+CREATE TABLE planning_events (
+    id BIGSERIAL PRIMARY KEY,
+    type VARCHAR(32) NOT NULL,
+    from_date DATE,
+    until_date DATE,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
@@ -0,0 +1,149 @@
+-- One row per day an open site occupies, so the planning functions find the sites of a day with an equality join
+-- instead of checking the period of every site. Maintained by a trigger on sites, which only touches the days that
+-- were added to or removed from the period.
+CREATE TABLE site_days (
+    day DATE NOT NULL,
+    site_id BIGINT NOT NULL,
+    CONSTRAINT pk_site_days PRIMARY KEY (day, site_id),
+    CONSTRAINT fk_site_days_site FOREIGN KEY (site_id) REFERENCES sites(id) ON DELETE CASCADE
+);
+
+-- The trigger and the cascading delete look up the days of one site
+CREATE INDEX idx_site_days_site_id ON site_days (site_id, day);
+
+CREATE OR REPLACE FUNCTION refresh_site_days()
+RETURNS TRIGGER AS $$
+DECLARE
+    occupied DATERANGE := CASE WHEN NEW.site_status = 'OPEN' THEN NEW.active_period END;
+BEGIN
+    -- Hibernate writes every column on update, most updates do not change the occupied days
+    IF TG_OP = 'UPDATE'
+        AND NEW.active_period IS NOT DISTINCT FROM OLD.active_period
+        AND NEW.site_status IS NOT DISTINCT FROM OLD.site_status THEN
+        RETURN NULL;
+    END IF;
+
+    DELETE FROM site_days
+    WHERE site_id = NEW.id
+      AND (occupied IS NULL OR NOT occupied @> day);
+
+    IF occupied IS NOT NULL THEN
+        INSERT INTO site_days (day, site_id)
+        SELECT d::DATE, NEW.id
+        FROM generate_series(lower(occupied), upper(occupied) - 1, '1 day'::INTERVAL) AS d
+        ON CONFLICT DO NOTHING;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_sites_refresh_site_days
+    AFTER INSERT OR UPDATE OF execution_date, duration_in_days, site_status ON sites
+    FOR EACH ROW
+EXECUTE FUNCTION refresh_site_days();
+
+INSERT INTO site_days (day, site_id)
+SELECT d::DATE, s.id
+FROM sites s
+CROSS JOIN generate_series(lower(s.active_period), upper(s.active_period) - 1, '1 day'::INTERVAL) AS d
+WHERE s.site_status = 'OPEN'
+  AND s.active_period IS NOT NULL;
+
+-- The functions below only changed in how they find the sites of a day. site_days only holds open sites.
+
+CREATE OR REPLACE FUNCTION get_active_sites_on_date(p_date DATE)
+RETURNS TABLE (
+    site_id BIGINT,
+    site_name VARCHAR(255),
+    customer_id BIGINT,
+    execution_date DATE,
+    duration_in_days INTEGER,
+    end_date DATE,
+    days_remaining INTEGER,
+    site_status VARCHAR(50),
+    worker_id BIGINT,
+    worker_first_name VARCHAR(255),
+    worker_last_name VARCHAR(255)
+) AS $$
+    SELECT
+        s.id AS site_id,
+        s.name AS site_name,
+        s.customer_id,
+        s.execution_date,
+        s.duration_in_days,
+        (s.execution_date + s.duration_in_days - 1)::DATE AS end_date,
+        (s.execution_date + s.duration_in_days - p_date)::INTEGER AS days_remaining,
+        s.site_status,
+        w.id AS worker_id,
+        w.first_name AS worker_first_name,
+        w.last_name AS worker_last_name
+    FROM site_days sd
+    JOIN sites s ON s.id = sd.site_id
+    LEFT JOIN site_workers sw ON s.id = sw.site_id
+    LEFT JOIN workers w ON sw.worker_id = w.id
+    WHERE sd.day = p_date
+    ORDER BY s.execution_date, s.id, w.last_name;
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION get_active_sites_between(p_from_date DATE, p_until_date DATE)
+RETURNS TABLE (
+    overview_date DATE,
+    site_id BIGINT,
+    site_name VARCHAR(255),
+    customer_id BIGINT,
+    execution_date DATE,
+    duration_in_days INTEGER,
+    end_date DATE,
+    days_remaining INTEGER,
+    site_status VARCHAR(50),
+    worker_id BIGINT,
+    worker_first_name VARCHAR(255),
+    worker_last_name VARCHAR(255)
+) AS $$
+    SELECT
+        sd.day AS overview_date,
+        s.id AS site_id,
+        s.name AS site_name,
+        s.customer_id,
+        s.execution_date,
+        s.duration_in_days,
+        (s.execution_date + s.duration_in_days - 1)::DATE AS end_date,
+        (s.execution_date + s.duration_in_days - sd.day)::INTEGER AS days_remaining,
+        s.site_status,
+        w.id AS worker_id,
+        w.first_name AS worker_first_name,
+        w.last_name AS worker_last_name
+    FROM site_days sd
+    JOIN sites s ON s.id = sd.site_id
+    LEFT JOIN site_workers sw ON s.id = sw.site_id
+    LEFT JOIN workers w ON sw.worker_id = w.id
+    WHERE sd.day BETWEEN p_from_date AND p_until_date
+    ORDER BY sd.day, s.execution_date, s.id, w.last_name;
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION get_worker_availability(p_date DATE)
+RETURNS TABLE (
+    worker_id BIGINT,
+    worker_first_name VARCHAR(255),
+    worker_last_name VARCHAR(255),
+    linked_site_id BIGINT,
+    linked_site_name VARCHAR(255),
+    site_until DATE
+) AS $$
+    SELECT DISTINCT ON (w.id)
+        w.id AS worker_id,
+        w.first_name AS worker_first_name,
+        w.last_name AS worker_last_name,
+        s.id AS linked_site_id,
+        s.name AS linked_site_name,
+        (upper(s.active_period) - 1)::DATE AS site_until
+    FROM workers w
+    LEFT JOIN (site_workers sw
+        JOIN site_days sd ON sd.site_id = sw.site_id
+            AND sd.day = p_date
+        JOIN sites s ON s.id = sd.site_id)
+        ON sw.worker_id = w.id
+    -- When a worker is on several sites that day, show the one that keeps them busy the longest
+    ORDER BY w.id ASC, upper(s.active_period) DESC NULLS LAST, s.id ASC;
+$$ LANGUAGE sql STABLE;
@@ -0,0 +1,35 @@
+-- Same rows as get_planning, but a site is returned on every day it occupies instead of only on its execution date.
+-- The days of the range are looked up in site_days, which is sorted on day, so every day is one index range scan
+-- that only touches the sites of that day. Only open sites occupy days.
+CREATE OR REPLACE FUNCTION get_planning_occupancy(p_from_date DATE, p_until_date DATE)
+RETURNS TABLE (
+    workday_date DATE,
+    week_number INTEGER,
+    day_of_week TEXT,
+    site_id BIGINT,
+    site_name VARCHAR(255),
+    duration_in_days INTEGER,
+    site_status VARCHAR(50)
+) AS $$
+    -- From the Monday of the week of p_from_date until the Sunday of the week of p_until_date
+    SELECT
+        d.date_val::DATE AS workday_date,
+        EXTRACT(WEEK FROM d.date_val)::INTEGER AS week_number,
+        TRIM(TO_CHAR(d.date_val, 'Day')) AS day_of_week,
+        s.id AS site_id,
+        s.name AS site_name,
+        s.duration_in_days,
+        s.site_status::VARCHAR AS site_status
+    FROM
+        generate_series(
+            DATE_TRUNC('week', p_from_date)::DATE,
+            (DATE_TRUNC('week', p_until_date) + INTERVAL '6 days')::DATE,
+            '1 day'::INTERVAL
+        ) AS d(date_val)
+    LEFT JOIN
+        site_days sd ON sd.day = d.date_val::DATE
+    LEFT JOIN
+        sites s ON s.id = sd.site_id
+    ORDER BY
+        d.date_val, s.id;
+$$ LANGUAGE sql STABLE;
@@ -0,0 +1,48 @@
+-- The period a site occupies, as a half-open range [execution_date, execution_date + duration_in_days).
+-- Kept NULL for sites that are not planned yet, so they never match a containment or overlap predicate.
+ALTER TABLE sites
+    ADD COLUMN active_period DATERANGE GENERATED ALWAYS AS (
+        CASE
+            WHEN execution_date IS NOT NULL AND duration_in_days IS NOT NULL
+                THEN daterange(execution_date, execution_date + duration_in_days)
+        END
+    ) STORED;
+
+CREATE INDEX idx_sites_open_active_period ON sites USING GIST (active_period) WHERE site_status = 'OPEN';
+
+CREATE OR REPLACE FUNCTION get_active_sites_on_date(p_date DATE)
+RETURNS TABLE (
+    site_id BIGINT,
+    site_name VARCHAR(255),
+    customer_id BIGINT,
+    execution_date DATE,
+    duration_in_days INTEGER,
+    end_date DATE,
+    days_remaining INTEGER,
+    site_status VARCHAR(50),
+    worker_id BIGINT,
+    worker_first_name VARCHAR(255),
+    worker_last_name VARCHAR(255)
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT
+        s.id AS site_id,
+        s.name AS site_name,
+        s.customer_id,
+        s.execution_date,
+        s.duration_in_days,
+        (s.execution_date + s.duration_in_days - 1)::DATE AS end_date,
+        (s.execution_date + s.duration_in_days - p_date)::INTEGER AS days_remaining,
+        s.site_status,
+        w.id AS worker_id,
+        w.first_name AS worker_first_name,
+        w.last_name AS worker_last_name
+    FROM sites s
+    LEFT JOIN site_workers sw ON s.id = sw.site_id
+    LEFT JOIN workers w ON sw.worker_id = w.id
+    WHERE s.site_status = 'OPEN'
+      AND s.active_period @> p_date
+    ORDER BY s.execution_date, s.id, w.last_name;
+END;
+$$ LANGUAGE plpgsql;
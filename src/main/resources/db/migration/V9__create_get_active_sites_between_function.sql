@@ -0,0 +1,38 @@
+CREATE OR REPLACE FUNCTION get_active_sites_between(p_from_date DATE, p_until_date DATE)
+RETURNS TABLE (
+    overview_date DATE,
+    site_id BIGINT,
+    site_name VARCHAR(255),
+    customer_id BIGINT,
+    execution_date DATE,
+    duration_in_days INTEGER,
+    end_date DATE,
+    days_remaining INTEGER,
+    site_status VARCHAR(50),
+    worker_id BIGINT,
+    worker_first_name VARCHAR(255),
+    worker_last_name VARCHAR(255)
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT
+        d.date_val::DATE AS overview_date,
+        s.id AS site_id,
+        s.name AS site_name,
+        s.customer_id,
+        s.execution_date,
+        s.duration_in_days,
+        (s.execution_date + s.duration_in_days - 1)::DATE AS end_date,
+        (s.execution_date + s.duration_in_days - d.date_val::DATE)::INTEGER AS days_remaining,
+        s.site_status,
+        w.id AS worker_id,
+        w.first_name AS worker_first_name,
+        w.last_name AS worker_last_name
+    FROM generate_series(p_from_date, p_until_date, '1 day'::INTERVAL) AS d(date_val)
+    JOIN sites s ON s.site_status = 'OPEN'
+        AND s.active_period @> d.date_val::DATE
+    LEFT JOIN site_workers sw ON s.id = sw.site_id
+    LEFT JOIN workers w ON sw.worker_id = w.id
+    ORDER BY d.date_val, s.execution_date, s.id, w.last_name;
+END;
+$$ LANGUAGE plpgsql;
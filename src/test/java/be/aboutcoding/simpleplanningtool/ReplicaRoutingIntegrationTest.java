@@ -0,0 +1,124 @@
+package be.aboutcoding.simpleplanningtool;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import be.aboutcoding.simpleplanningtool.planning.changes.PlanningEventFeed;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Points the replica at the same database as the primary, so both pools see the schema, and checks which pool
+ * serves a transaction.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.url=${spring.datasource.url}",
+        "datasource.replica.username=${spring.datasource.username:}",
+        "datasource.replica.password=${spring.datasource.password:}",
+        "datasource.replica.hikari.maximum-pool-size=2"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private ReadYourWritesDataSource readYourWritesDataSource;
+
+    @Autowired
+    private PlanningEventFeed planningEventFeed;
+
+    // The feed reads the outbox in the background once the context started, that connection must not be counted
+    @BeforeEach
+    void waitForTheFeedToStart() {
+        planningEventFeed.lastEventId();
+    }
+
+    @Test
+    void shouldUseReplicaForReadOnlyTransactions() {
+        // Given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        // When
+        PoolUsage usage = transaction.execute(status -> queryAndMeasurePoolUsage());
+
+        // Then
+        assertThat(usage.replica()).isEqualTo(1);
+        assertThat(usage.primary()).isZero();
+    }
+
+    @Test
+    void shouldUsePrimaryForReadWriteTransactions() {
+        // Given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When
+        PoolUsage usage = transaction.execute(status -> queryAndMeasurePoolUsage());
+
+        // Then
+        assertThat(usage.primary()).isEqualTo(1);
+        assertThat(usage.replica()).isZero();
+    }
+
+    @Test
+    @DirtiesContext
+    void shouldUsePrimaryForReadOnlyTransactionsUntilReplicaReplayedTheLastChange() {
+        // Given - a committed planning change, the test replica is no standby so it never reports it as replayed
+        readYourWritesDataSource.onPlanningChanged(
+                PlanningChangedEvent.everything(PlanningChangedEvent.Type.SITE_CHANGED));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        // When
+        PoolUsage usage = transaction.execute(status -> queryAndMeasurePoolUsage());
+
+        // Then - the lagging replica is skipped
+        assertThat(usage.primary()).isEqualTo(1);
+        assertThat(usage.replica()).isZero();
+    }
+
+    @Test
+    void shouldParseAndFormatWalPositions() {
+        // When
+        long lsn = ReadYourWritesDataSource.parseLsn("16/B374D848");
+
+        // Then
+        assertThat(lsn).isEqualTo(0x16B374D848L);
+        assertThat(ReadYourWritesDataSource.formatLsn(lsn)).isEqualTo("16/B374D848");
+    }
+
+    private PoolUsage queryAndMeasurePoolUsage() {
+        jdbcTemplate.queryForObject("SELECT count(*) FROM sites", Long.class);
+        return new PoolUsage(activeConnections(primaryDataSource), activeConnections(replicaDataSource));
+    }
+
+    // A pool only starts on its first connection request
+    private int activeConnections(HikariDataSource dataSource) {
+        return dataSource.getHikariPoolMXBean() == null ? 0 : dataSource.getHikariPoolMXBean().getActiveConnections();
+    }
+
+    private record PoolUsage(int primary, int replica) {
+    }
+}
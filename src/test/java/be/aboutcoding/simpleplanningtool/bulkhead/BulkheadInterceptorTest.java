@@ -0,0 +1,70 @@
+package be.aboutcoding.simpleplanningtool.bulkhead;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadInterceptorTest {
+
+    private final BulkheadInterceptor interceptor = new BulkheadInterceptor(
+            new BulkheadProperties(Duration.ZERO, 5, Map.of("range", 1)));
+
+    @Test
+    void shouldRejectRequestWhenBulkheadIsFull() throws Exception {
+        // Given - the only slot of the range bulkhead is taken
+        HandlerMethod handler = handler("range");
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler)).isTrue();
+
+        // When / Then
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler))
+                .isInstanceOf(BulkheadFullException.class);
+    }
+
+    @Test
+    void shouldReleaseSlotWhenRequestCompletes() throws Exception {
+        // Given
+        HandlerMethod handler = handler("range");
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler);
+
+        // When
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler, null);
+
+        // Then
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler)).isTrue();
+    }
+
+    @Test
+    void shouldNotShareSlotsBetweenBulkheads() throws Exception {
+        // Given - the range bulkhead is full
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("range"));
+
+        // When / Then - the controller bulkhead uses the default limit of 5
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                    handler("list"))).isTrue();
+        }
+    }
+
+    private HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new TestController(), TestController.class.getMethod(method));
+    }
+
+    @Bulkhead("crud")
+    static class TestController {
+
+        @Bulkhead("range")
+        public void range() {
+        }
+
+        public void list() {
+        }
+    }
+}
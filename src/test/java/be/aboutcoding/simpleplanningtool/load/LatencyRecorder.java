@@ -0,0 +1,82 @@
+package be.aboutcoding.simpleplanningtool.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects request latencies per endpoint from many threads and summarises them as percentiles. Requests turned
+ * away by a full bulkhead (503) are counted as rejected, any other non-200 response as failed.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> failures = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> rejections = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long nanos, int statusCode) {
+        latencies.computeIfAbsent(endpoint, k -> new ConcurrentLinkedQueue<>()).add(nanos);
+        if (statusCode == 503) {
+            rejections.computeIfAbsent(endpoint, k -> new AtomicInteger()).incrementAndGet();
+        } else if (statusCode != 200) {
+            failures.computeIfAbsent(endpoint, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    public int failures() {
+        return failures.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public List<Summary> summaries() {
+        List<Summary> summaries = new ArrayList<>();
+        latencies.forEach((endpoint, values) -> {
+            long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+            summaries.add(new Summary(
+                    endpoint,
+                    sorted.length,
+                    count(failures, endpoint),
+                    count(rejections, endpoint),
+                    percentile(sorted, 50),
+                    percentile(sorted, 90),
+                    percentile(sorted, 99),
+                    sorted[sorted.length - 1]
+            ));
+        });
+        summaries.sort((a, b) -> a.endpoint().compareTo(b.endpoint()));
+        return summaries;
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("%-32s %8s %8s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "failed", "rejected", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Summary summary : summaries()) {
+            report.append(String.format("%-32s %8d %8d %8d %10.1f %10.1f %10.1f %10.1f%n",
+                    summary.endpoint(), summary.requests(), summary.failed(), summary.rejected(),
+                    millis(summary.p50()), millis(summary.p90()), millis(summary.p99()), millis(summary.max())));
+        }
+        return report.toString();
+    }
+
+    private static int count(Map<String, AtomicInteger> counters, String endpoint) {
+        AtomicInteger counter = counters.get(endpoint);
+        return counter == null ? 0 : counter.get();
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public record Summary(String endpoint, int requests, int failed, int rejected, long p50, long p90, long p99,
+                          long max) {
+    }
+}
@@ -0,0 +1,97 @@
+package be.aboutcoding.simpleplanningtool.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Seeds the database with a synthetic planning of configurable size. All rows are generated inside PostgreSQL with
+ * generate_series, so seeding 100k sites takes seconds instead of minutes of individual inserts. The random
+ * generator is seeded, so the same scale always produces the same data.
+ */
+public class PlanningDataGenerator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlanningDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param workers          number of workers
+     * @param sites            number of sites, every site gets its own customer like the API creates them
+     * @param maxWorkersPerSite upper bound of workers linked to a planned site
+     * @param weeksAhead       how far into the future execution dates are spread, a quarter of it lies in the past
+     */
+    public record Scale(int workers, int sites, int maxWorkersPerSite, int weeksAhead) {
+
+        public static Scale fromSystemProperties() {
+            return new Scale(
+                    Integer.getInteger("load.workers", 200),
+                    Integer.getInteger("load.sites", 5000),
+                    Integer.getInteger("load.max-workers-per-site", 4),
+                    Integer.getInteger("load.weeks-ahead", 26)
+            );
+        }
+    }
+
+    /**
+     * Removes all existing planning data and generates new data around the given date.
+     */
+    public void seed(Scale scale, LocalDate today) {
+        jdbcTemplate.execute("TRUNCATE site_days, site_week_planning, site_workers, sites, customers, workers RESTART IDENTITY");
+        jdbcTemplate.queryForObject("SELECT setseed(0.42)", Object.class);
+
+        jdbcTemplate.update("""
+                INSERT INTO workers (first_name, last_name, date_of_creation)
+                SELECT 'Worker', 'No. ' || i, now() - make_interval(days => (random() * 1000)::int)
+                FROM generate_series(1, ?) AS i
+                """, scale.workers());
+
+        jdbcTemplate.update("""
+                INSERT INTO customers (name, is_private)
+                SELECT 'Customer ' || i, random() < 0.3
+                FROM generate_series(1, ?) AS i
+                """, scale.sites());
+
+        // Mostly short jobs with a long tail, 15% not planned yet, jobs that ended in the past are mostly done
+        jdbcTemplate.update("""
+                INSERT INTO sites (name, customer_id, desired_date, execution_date, duration_in_days, transport,
+                                   creation_date, site_status)
+                SELECT 'Site ' || g.i,
+                       g.i,
+                       g.execution_date - (random() * 14)::int,
+                       CASE WHEN g.unplanned THEN NULL ELSE g.execution_date END,
+                       g.duration_in_days,
+                       CASE WHEN random() < 0.5 THEN 'Truck' ELSE 'Van' END,
+                       ?::date - make_interval(days => (random() * 180)::int),
+                       CASE WHEN NOT g.unplanned AND g.execution_date + g.duration_in_days < ?::date
+                                 AND random() < 0.9 THEN 'DONE' ELSE 'OPEN' END
+                FROM (SELECT i,
+                             random() < 0.15 AS unplanned,
+                             ?::date + (random() * ? * 7)::int - ? * 7 / 4 AS execution_date,
+                             1 + floor(power(random(), 3) * 30)::int AS duration_in_days
+                      FROM generate_series(1, ?) AS i) AS g
+                """, today, today, today, scale.weeksAhead(), scale.weeksAhead(), scale.sites());
+
+        // Duplicate random picks are dropped by the primary key
+        jdbcTemplate.update("""
+                INSERT INTO site_workers (site_id, worker_id)
+                SELECT s.site_id, 1 + floor(random() * ?)::int
+                FROM (SELECT id AS site_id, 1 + floor(random() * ?)::int AS worker_count
+                      FROM sites
+                      WHERE execution_date IS NOT NULL) AS s
+                CROSS JOIN LATERAL generate_series(1, s.worker_count) AS pick
+                ON CONFLICT DO NOTHING
+                """, scale.workers(), scale.maxWorkersPerSite());
+
+        // Half of the unplanned sites already have a week reserved on the monthly overview
+        jdbcTemplate.update("""
+                INSERT INTO site_week_planning (week, year, site_id)
+                SELECT EXTRACT(WEEK FROM w.week_date)::int, EXTRACT(ISOYEAR FROM w.week_date)::int, w.site_id
+                FROM (SELECT id AS site_id, ?::date + (random() * 12 * 7)::int AS week_date
+                      FROM sites
+                      WHERE execution_date IS NULL AND random() < 0.5) AS w
+                """, today);
+    }
+}
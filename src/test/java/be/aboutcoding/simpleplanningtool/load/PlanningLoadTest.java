@@ -0,0 +1,127 @@
+package be.aboutcoding.simpleplanningtool.load;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the read endpoints concurrently against a seeded database and prints latency percentiles per endpoint.
+ * Excluded from the regular build, run with: mvn -Pload test
+ * <p>
+ * Scale and load can be tuned with system properties, e.g. -Dload.sites=100000 -Dload.concurrency=32, see
+ * {@link PlanningDataGenerator.Scale#fromSystemProperties()}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+class PlanningLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final int REQUESTS_PER_ENDPOINT = Integer.getInteger("load.requests", 200);
+    private static final int WARMUP_REQUESTS_PER_ENDPOINT = Integer.getInteger("load.warmup-requests", 20);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void seedDatabase() {
+        new PlanningDataGenerator(jdbcTemplate).seed(PlanningDataGenerator.Scale.fromSystemProperties(), today);
+    }
+
+    @Test
+    void shouldServeReadEndpointsUnderConcurrentLoad() throws Exception {
+        // Given
+        List<Endpoint> endpoints = List.of(
+                new Endpoint("/planning", this::randomPlanningPath),
+                new Endpoint("/planning?mode=OCCUPANCY", () -> randomPlanningPath() + "&mode=OCCUPANCY"),
+                new Endpoint("/planning/day", () -> "/planning/day?date=" + randomDate()),
+                new Endpoint("/planning/idle", () -> "/planning/idle?date=" + randomDate()),
+                new Endpoint("/planning/worker/day", () -> "/planning/worker/day?date=" + randomDate()),
+                new Endpoint("/planning/workers/availability", this::randomAvailabilityPath),
+                new Endpoint("/planning/monthly", () -> "/planning/monthly"),
+                new Endpoint("/sites/open", () -> "/sites/open?limit=100")
+        );
+        run(endpoints, WARMUP_REQUESTS_PER_ENDPOINT, new LatencyRecorder());
+
+        // When
+        LatencyRecorder recorder = new LatencyRecorder();
+        run(endpoints, REQUESTS_PER_ENDPOINT, recorder);
+
+        // Then
+        System.out.println(recorder.report());
+        assertThat(recorder.failures()).isZero();
+        assertThat(recorder.summaries()).hasSize(endpoints.size());
+    }
+
+    private void run(List<Endpoint> endpoints, int requestsPerEndpoint, LatencyRecorder recorder) throws Exception {
+        // Interleave the endpoints so they all compete for connections at the same time
+        List<Endpoint> requests = new ArrayList<>();
+        for (int i = 0; i < requestsPerEndpoint; i++) {
+            requests.addAll(endpoints);
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Endpoint endpoint : requests) {
+                futures.add(executor.submit(() -> call(endpoint, recorder)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private Void call(Endpoint endpoint, LatencyRecorder recorder) throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/api" + endpoint.path().get());
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+        long start = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        recorder.record(endpoint.name(), System.nanoTime() - start, response.statusCode());
+        return null;
+    }
+
+    private String randomPlanningPath() {
+        LocalDate from = randomDate();
+        return "/planning?from=" + from + "&until=" + from.plusDays(30);
+    }
+
+    private String randomAvailabilityPath() {
+        LocalDate from = randomDate();
+        return "/planning/workers/availability?from=" + from + "&until=" + from.plusDays(30);
+    }
+
+    private LocalDate randomDate() {
+        return today.plusDays(ThreadLocalRandom.current().nextInt(-30, 90));
+    }
+
+    private record Endpoint(String name, Supplier<String> path) {
+    }
+}
@@ -0,0 +1,140 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.site.Customer;
+import be.aboutcoding.simpleplanningtool.site.Site;
+import be.aboutcoding.simpleplanningtool.worker.Worker;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not transactional on purpose: the dashboard reads on other threads and connections, which only see committed data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PlannerDashboardIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanupDatabase() {
+        jdbcTemplate.update("DELETE FROM site_workers");
+        jdbcTemplate.update("DELETE FROM site_week_planning");
+        jdbcTemplate.update("DELETE FROM sites");
+        jdbcTemplate.update("DELETE FROM customers");
+        jdbcTemplate.update("DELETE FROM workers");
+        jdbcTemplate.update("DELETE FROM planning_events");
+    }
+
+    @Test
+    void shouldCombineDayOverviewIdleWorkersWorkerDayOverviewAndUnplannedSites() throws Exception {
+        // Given - one worker on a site that runs on the requested date, one idle worker and one unplanned site
+        LocalDate date = LocalDate.of(2026, 12, 9);
+        Worker busyWorker = new Worker("John", "Busy");
+        Worker idleWorker = new Worker("Jane", "Idle");
+        Site plannedSite = createSite("Planned Site", date.minusDays(1));
+        plannedSite.setWorkers(Set.of(busyWorker));
+        Site unplannedSite = createSite("Unplanned Site", null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.persist(busyWorker);
+            entityManager.persist(idleWorker);
+            entityManager.persist(plannedSite);
+            entityManager.persist(unplannedSite);
+        });
+
+        // When / Then
+        mockMvc.perform(get("/planning/dashboard")
+                        .queryParam("date", date.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2026-12-09"))
+                .andExpect(jsonPath("$.day_overview.plannedSites.length()").value(1))
+                .andExpect(jsonPath("$.day_overview.plannedSites[0].site_id").value(plannedSite.getId()))
+                .andExpect(jsonPath("$.idle_workers.idle_workers.length()").value(1))
+                .andExpect(jsonPath("$.idle_workers.idle_workers[0].id").value(idleWorker.getId()))
+                .andExpect(jsonPath("$.worker_day_overview.day_overview.length()").value(2))
+                .andExpect(jsonPath("$.unplanned_sites.length()").value(1))
+                .andExpect(jsonPath("$.unplanned_sites[0].id").value(unplannedSite.getId()));
+    }
+
+    @Test
+    void shouldReturnNewUnplannedSiteInsteadOfNotModifiedAfterSiteIsCreated() throws Exception {
+        // Given - a dashboard the planner already has
+        String etag = mockMvc.perform(get("/planning/dashboard")
+                        .queryParam("date", "2026-12-09"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unplanned_sites.length()").value(0))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // When
+        mockMvc.perform(post("/sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "name": "New Site",
+                                  "customer_name": "New Customer",
+                                  "duration_in_days": 3
+                                }
+                                """))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/planning/dashboard")
+                        .queryParam("date", "2026-12-09")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unplanned_sites.length()").value(1))
+                .andExpect(jsonPath("$.unplanned_sites[0].name").value("New Site"));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenDashboardDateIsMissing() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/planning/dashboard"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Site createSite(String name, LocalDate executionDate) {
+        Customer customer = new Customer();
+        customer.setName(name + " Customer");
+        customer.setIsPrivate(false);
+
+        Site site = new Site(name, 3);
+        site.setCustomer(customer);
+        site.setExecutionDate(executionDate);
+        site.setCreationDate(Instant.now());
+        return site;
+    }
+}
@@ -4,8 +4,13 @@ import be.aboutcoding.simpleplanningtool.site.Customer;
 import be.aboutcoding.simpleplanningtool.site.Site;
 import be.aboutcoding.simpleplanningtool.site.SiteStatus;
 import be.aboutcoding.simpleplanningtool.worker.Worker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
 import net.bytebuddy.asm.Advice;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -23,8 +28,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +39,7 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,6 +55,10 @@ class PlanningApiIntegrationTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+
     @AfterEach
     void cleanupDatabase() {
         entityManager.createNativeQuery("DELETE FROM site_week_planning").executeUpdate();
@@ -175,9 +187,9 @@ class PlanningApiIntegrationTest {
 
         assertThat(updatedSite.getWorkers()).isNotNull();
         assertThat(updatedSite.getWorkers()).hasSize(1);
-        assertThat(updatedSite.getWorkers().get(0).getId()).isEqualTo(workerId);
-        assertThat(updatedSite.getWorkers().get(0).getFirstName()).isEqualTo("John");
-        assertThat(updatedSite.getWorkers().get(0).getLastName()).isEqualTo("Doe");
+        assertThat(updatedSite.getWorkers().iterator().next().getId()).isEqualTo(workerId);
+        assertThat(updatedSite.getWorkers().iterator().next().getFirstName()).isEqualTo("John");
+        assertThat(updatedSite.getWorkers().iterator().next().getLastName()).isEqualTo("Doe");
     }
 
     @Test
@@ -240,7 +252,7 @@ class PlanningApiIntegrationTest {
         entityManager.flush();
 
         // Link the worker to the site initially
-        site.setWorkers(List.of(worker));
+        site.setWorkers(Set.of(worker));
         entityManager.merge(site);
         entityManager.flush();
         entityManager.clear();
@@ -264,7 +276,7 @@ class PlanningApiIntegrationTest {
 
         assertThat(updatedSite.getWorkers()).isNotNull();
         assertThat(updatedSite.getWorkers()).hasSize(1);
-        assertThat(updatedSite.getWorkers().get(0).getId()).isEqualTo(workerId);
+        assertThat(updatedSite.getWorkers().iterator().next().getId()).isEqualTo(workerId);
     }
 
     @Test
@@ -277,7 +289,7 @@ class PlanningApiIntegrationTest {
         entityManager.flush();
 
         // Link the worker to the site
-        site.setWorkers(List.of(worker));
+        site.setWorkers(Set.of(worker));
         entityManager.merge(site);
         entityManager.flush();
         entityManager.clear();
@@ -319,6 +331,185 @@ class PlanningApiIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldInsertOneRowWhenWorkerIsLinkedToSiteWithCrew() throws Exception {
+        // Given - a site with a crew of three and a fourth worker
+        Worker alice = new Worker("Alice", "Engineer");
+        Worker bob = new Worker("Bob", "Builder");
+        Worker charlie = new Worker("Charlie", "Designer");
+        Worker dave = new Worker("Dave", "Plumber");
+        entityManager.persist(alice);
+        entityManager.persist(bob);
+        entityManager.persist(charlie);
+        entityManager.persist(dave);
+        entityManager.flush();
+
+        Site site = createAndPersistSite(LocalDate.of(2026, 6, 15));
+        site.setWorkers(Set.of(alice, bob, charlie));
+        entityManager.merge(site);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(patch("/planning/sites/" + site.getId() + "/workers")
+                        .queryParam("workerId", dave.getId().toString()))
+                .andExpect(status().isNoContent());
+        entityManager.flush();
+
+        // Then - select the site, the worker and the crew, insert the new link; the crew is not rewritten
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(findWorkerIdsOfSite(site.getId()))
+                .containsExactlyInAnyOrder(alice.getId(), bob.getId(), charlie.getId(), dave.getId());
+    }
+
+    @Test
+    void shouldDeleteOneRowWhenWorkerIsUnlinkedFromSiteWithCrew() throws Exception {
+        // Given - a site with a crew of three
+        Worker alice = new Worker("Alice", "Engineer");
+        Worker bob = new Worker("Bob", "Builder");
+        Worker charlie = new Worker("Charlie", "Designer");
+        entityManager.persist(alice);
+        entityManager.persist(bob);
+        entityManager.persist(charlie);
+        entityManager.flush();
+
+        Site site = createAndPersistSite(LocalDate.of(2026, 6, 15));
+        site.setWorkers(Set.of(alice, bob, charlie));
+        entityManager.merge(site);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(patch("/planning/sites/" + site.getId() + "/unlink")
+                        .queryParam("workerId", bob.getId().toString()))
+                .andExpect(status().isNoContent());
+        entityManager.flush();
+
+        // Then - select the site and the crew, delete the one link; the rest of the crew is not rewritten
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(findWorkerIdsOfSite(site.getId())).containsExactlyInAnyOrder(alice.getId(), charlie.getId());
+    }
+
+    @Test
+    void shouldLinkCrewToSiteWhenAssignmentIsRequested() throws Exception {
+        // Given - a site with one worker of the crew already linked
+        Worker alice = new Worker("Alice", "Engineer");
+        Worker bob = new Worker("Bob", "Builder");
+        Worker charlie = new Worker("Charlie", "Designer");
+        entityManager.persist(alice);
+        entityManager.persist(bob);
+        entityManager.persist(charlie);
+        entityManager.flush();
+
+        Site site = createAndPersistSite(LocalDate.of(2026, 6, 15));
+        site.setWorkers(Set.of(alice));
+        entityManager.merge(site);
+        entityManager.flush();
+        entityManager.clear();
+
+        String requestBody = """
+                { "site_ids": [%d], "worker_ids": [%d, %d, %d] }
+                """.formatted(site.getId(), alice.getId(), bob.getId(), charlie.getId());
+
+        // When
+        mockMvc.perform(patch("/planning/assignments/link")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isNoContent());
+
+        // Then - the whole crew is linked once
+        assertThat(findWorkerIdsOfSite(site.getId()))
+                .containsExactlyInAnyOrder(alice.getId(), bob.getId(), charlie.getId());
+    }
+
+    @Test
+    void shouldUnlinkWorkerFromEverySiteWhenUnassignmentIsRequested() throws Exception {
+        // Given - one worker on two sites, together with a colleague on the first one
+        Worker alice = new Worker("Alice", "Engineer");
+        Worker bob = new Worker("Bob", "Builder");
+        entityManager.persist(alice);
+        entityManager.persist(bob);
+        entityManager.flush();
+
+        Site firstSite = createAndPersistSite(LocalDate.of(2026, 6, 15));
+        firstSite.setWorkers(Set.of(alice, bob));
+        entityManager.merge(firstSite);
+        Site secondSite = createAndPersistSite(LocalDate.of(2026, 6, 22));
+        secondSite.setWorkers(Set.of(alice));
+        entityManager.merge(secondSite);
+        entityManager.flush();
+        entityManager.clear();
+
+        String requestBody = """
+                { "site_ids": [%d, %d], "worker_ids": [%d] }
+                """.formatted(firstSite.getId(), secondSite.getId(), alice.getId());
+
+        // When
+        mockMvc.perform(patch("/planning/assignments/unlink")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isNoContent());
+
+        // Then - only the colleague is left
+        assertThat(findWorkerIdsOfSite(firstSite.getId())).containsExactly(bob.getId());
+        assertThat(findWorkerIdsOfSite(secondSite.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldLinkNobodyWhenAssignmentContainsSiteWithoutExecutionDate() throws Exception {
+        // Given - one planned and one unplanned site
+        Worker worker = new Worker("Alice", "Engineer");
+        entityManager.persist(worker);
+        Site plannedSite = createAndPersistSite(LocalDate.of(2026, 6, 15));
+        Site unplannedSite = createAndPersistSite(null);
+
+        String requestBody = """
+                { "site_ids": [%d, %d], "worker_ids": [%d] }
+                """.formatted(plannedSite.getId(), unplannedSite.getId(), worker.getId());
+
+        // When / Then
+        mockMvc.perform(patch("/planning/assignments/link")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest());
+        assertThat(findWorkerIdsOfSite(plannedSite.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenAssignmentContainsUnknownWorker() throws Exception {
+        // Given
+        Site site = createAndPersistSite(LocalDate.of(2026, 6, 15));
+
+        // When / Then
+        mockMvc.perform(patch("/planning/assignments/link")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "site_ids": [%d], "worker_ids": [99999] }
+                                """.formatted(site.getId())))
+                .andExpect(status().isNotFound());
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    private List<Long> findWorkerIdsOfSite(Long siteId) {
+        return entityManager
+                .createNativeQuery("SELECT worker_id FROM site_workers WHERE site_id = :siteId", Long.class)
+                .setParameter("siteId", siteId)
+                .getResultList();
+    }
+
     @Test
     void shouldReturnWorkerDayOverviewWithAssignedAndUnassignedWorkers() throws Exception {
         // Given - create three workers
@@ -334,7 +525,7 @@ class PlanningApiIntegrationTest {
         Site site = createAndPersistSite(LocalDate.of(2026, 1, 20));
         site.setName("Downtown Construction");
         site.setDurationInDays(5);
-        site.setWorkers(List.of(assignedWorker1, assignedWorker2));
+        site.setWorkers(Set.of(assignedWorker1, assignedWorker2));
         entityManager.merge(site);
         entityManager.flush();
         entityManager.clear();
@@ -389,7 +580,7 @@ class PlanningApiIntegrationTest {
         Site site = createAndPersistSite(LocalDate.of(2026, 1, 20));
         site.setName("Office Building");
         site.setDurationInDays(5); // Ends on 2026-01-24
-        site.setWorkers(List.of(worker));
+        site.setWorkers(Set.of(worker));
         entityManager.merge(site);
         entityManager.flush();
         entityManager.clear();
@@ -421,7 +612,7 @@ class PlanningApiIntegrationTest {
         site.setName("Completed Project");
         site.setDurationInDays(5);
         site.setStatus(SiteStatus.DONE); // Site is DONE, not OPEN
-        site.setWorkers(List.of(worker));
+        site.setWorkers(Set.of(worker));
         entityManager.merge(site);
         entityManager.flush();
         entityManager.clear();
@@ -451,7 +642,7 @@ class PlanningApiIntegrationTest {
 
         Site site = createAndPersistSite(null); // No execution date
         site.setName("Unplanned Site");
-        site.setWorkers(List.of(worker));
+        site.setWorkers(Set.of(worker));
         entityManager.merge(site);
         entityManager.flush();
         entityManager.clear();
@@ -473,62 +664,65 @@ class PlanningApiIntegrationTest {
     }
 
     @Test
-    void shouldReturnPlanningWithWorkdaysWhenValidFromAndUntilDatesAreProvided() throws Exception {
-        // Given - create a site with execution date on Dec 2, 2026
-        Customer customer = new Customer();
-        customer.setName("Test Customer");
-        customer.setIsPrivate(false);
-
-        Site site = new Site("Delhaize Waregem", 5);
-        site.setCustomer(customer);
-        site.setCreationDate(Instant.now());
-        site.setExecutionDate(LocalDate.of(2026, 12, 2));
+    void shouldReturnWorkerOnceWithLongestRunningSiteWhenLinkedToSeveralSitesOnSameDay() throws Exception {
+        // Given - a worker linked to a done site and to two open sites that are both active on 2026-01-22
+        Worker worker = new Worker("Grace", "Roofer");
+        entityManager.persist(worker);
+        entityManager.flush();
 
-        entityManager.persist(site);
+        Site doneSite = createAndPersistSite(LocalDate.of(2026, 1, 20));
+        doneSite.setName("Completed Project");
+        doneSite.setDurationInDays(10);
+        doneSite.setStatus(SiteStatus.DONE);
+        doneSite.setWorkers(Set.of(worker));
+        entityManager.merge(doneSite);
+
+        Site shortSite = createAndPersistSite(LocalDate.of(2026, 1, 21));
+        shortSite.setName("Short Job");
+        shortSite.setDurationInDays(2);
+        shortSite.setWorkers(Set.of(worker));
+        entityManager.merge(shortSite);
+
+        Site longSite = createAndPersistSite(LocalDate.of(2026, 1, 19));
+        longSite.setName("Long Job");
+        longSite.setDurationInDays(5);
+        longSite.setWorkers(Set.of(worker));
+        entityManager.merge(longSite);
         entityManager.flush();
         entityManager.clear();
 
-        Long siteId = site.getId();
-        LocalDate fromDate = LocalDate.of(2026, 12, 1);
-        LocalDate untilDate = LocalDate.of(2026, 12, 4);
+        // When / Then - the worker is listed once, on the site that keeps them busy the longest
+        mockMvc.perform(get("/planning/worker/day")
+                        .queryParam("date", "2026-01-22"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.day_overview.length()").value(1))
+                .andExpect(jsonPath("$.day_overview[0].id").value(worker.getId()))
+                .andExpect(jsonPath("$.day_overview[0].current_site.name").value("Long Job"))
+                .andExpect(jsonPath("$.day_overview[0].current_site.until").value("2026-01-23"));
 
-        // When - send GET request to get planning
-        mockMvc.perform(get("/planning")
-                        .queryParam("from", fromDate.toString())
-                        .queryParam("until", untilDate.toString()))
+        // And - the same worker is not idle on that day
+        mockMvc.perform(get("/planning/idle")
+                        .queryParam("date", "2026-01-22"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.from").value("2026-12-01"))
-                .andExpect(jsonPath("$.until").value("2026-12-04"))
-                .andExpect(jsonPath("$.weeks").isArray())
-                .andExpect(jsonPath("$.weeks.length()").value(1))
-                // Week 49
-                .andExpect(jsonPath("$.weeks[0].week").value(49))
-                // Monday - Nov 30 - no sites
-                .andExpect(jsonPath("$.weeks[0].monday.date").value("2026-11-30"))
-                .andExpect(jsonPath("$.weeks[0].monday.sites").isEmpty())
-                // Tuesday - Dec 1 - no sites
-                .andExpect(jsonPath("$.weeks[0].tuesday.date").value("2026-12-01"))
-                .andExpect(jsonPath("$.weeks[0].tuesday.sites").isEmpty())
-                // Wednesday - Dec 2 - has the site
-                .andExpect(jsonPath("$.weeks[0].wednesday.date").value("2026-12-02"))
-                .andExpect(jsonPath("$.weeks[0].wednesday.sites").isArray())
-                .andExpect(jsonPath("$.weeks[0].wednesday.sites.length()").value(1))
-                .andExpect(jsonPath("$.weeks[0].wednesday.sites[0].id").value(siteId))
-                .andExpect(jsonPath("$.weeks[0].wednesday.sites[0].name").value("Delhaize Waregem"))
-                .andExpect(jsonPath("$.weeks[0].wednesday.sites[0].duration_in_days").value(5))
-                .andExpect(jsonPath("$.weeks[0].wednesday.sites[0].status").exists())
-                // Thursday - Dec 3 - no sites
-                .andExpect(jsonPath("$.weeks[0].thursday.date").value("2026-12-03"))
-                .andExpect(jsonPath("$.weeks[0].thursday.sites").isEmpty())
-                // Friday - Dec 4 - no sites
-                .andExpect(jsonPath("$.weeks[0].friday.date").value("2026-12-04"))
-                .andExpect(jsonPath("$.weeks[0].friday.sites").isEmpty())
-                // Saturday - Dec 5 - no sites
-                .andExpect(jsonPath("$.weeks[0].saturday.date").value("2026-12-05"))
-                .andExpect(jsonPath("$.weeks[0].saturday.sites").isEmpty())
-                // Sunday - Dec 6 - no sites
-                .andExpect(jsonPath("$.weeks[0].sunday.date").value("2026-12-06"))
-                .andExpect(jsonPath("$.weeks[0].sunday.sites").isEmpty());
+                .andExpect(jsonPath("$.idle_workers.length()").value(0));
+    }
+    @Test
+    void shouldReturnBadRequestWhenPlanningModeIsUnknown() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/planning")
+                        .queryParam("from", "2026-12-01")
+                        .queryParam("until", "2026-12-07")
+                        .queryParam("mode", "EVERYTHING"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenStreamedPlanningUntilDateIsBeforeFromDate() throws Exception {
+        // When / Then - send GET request with until before from
+        mockMvc.perform(get("/planning/stream")
+                        .queryParam("from", "2026-12-10")
+                        .queryParam("until", "2026-12-01"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -544,6 +738,72 @@ class PlanningApiIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"/planning?from=2026-01-19&until=2026-01-25", "/planning/day?date=2026-01-21", "/planning/monthly"})
+    void shouldReturnNotModifiedWithoutQueryWhenETagIsSent(String path) throws Exception {
+        // Given - the ETag of a first response
+        String etag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // When / Then - the same ETag is answered without running a query
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void shouldRecordUseCaseTimingAndQueryRowCountWhenPlanningIsRequested() throws Exception {
+        // When - request two full weeks
+        mockMvc.perform(get("/planning")
+                        .queryParam("from", "2026-12-07")
+                        .queryParam("until", "2026-12-20"))
+                .andExpect(status().isOk());
+
+        // Then - the use case is timed and the 14 days of get_planning are counted
+        Timer useCaseTimer = meterRegistry.get("planning.usecase")
+                .tag("class", GetPlanning.class.getName())
+                .tag("method", "execute")
+                .timer();
+        assertThat(useCaseTimer.count()).isPositive();
+
+        DistributionSummary rows = meterRegistry.get("planning.repository.rows")
+                .tag("repository", "SiteRepository")
+                .tag("method", "getPlanningData")
+                .summary();
+        assertThat(rows.count()).isPositive();
+        assertThat(rows.max()).isGreaterThanOrEqualTo(14);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/planning", "/planning/stream", "/planning/days", "/planning/workers/availability"})
+    void shouldReturnBadRequestWhenRangeExceedsMaximumNumberOfDays(String endpoint) throws Exception {
+        // When / Then - request 367 days, one more than the configured maximum
+        mockMvc.perform(get(endpoint)
+                        .queryParam("from", "2026-01-01")
+                        .queryParam("until", "2027-01-02"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnEveryWeekInOrderWhenRangeSpansMultipleChunks() throws Exception {
+        // When / Then - a full year is fetched in 8 week chunks and merged back into 53 consecutive weeks
+        mockMvc.perform(get("/planning")
+                        .queryParam("from", "2026-01-01")
+                        .queryParam("until", "2027-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.weeks.length()").value(53))
+                .andExpect(jsonPath("$.weeks[0].week").value(1))
+                .andExpect(jsonPath("$.weeks[8].week").value(9))
+                .andExpect(jsonPath("$.weeks[52].week").value(53));
+    }
+
     @ParameterizedTest
     @MethodSource("invalidPlanningDateParameters")
     void shouldReturnBadRequestWhenDateParametersAreInvalid(String fromDate, String untilDate) throws Exception {
@@ -646,6 +906,69 @@ class PlanningApiIntegrationTest {
                 .andExpect(jsonPath("$.plannedSites.length()").value(0));
     }
 
+    @Test
+    void shouldReturnSiteWhenQueryDateIsSiteEndDate() throws Exception {
+        // Given - create a site with execution date 2026-01-20 and duration 5 days
+        // End date will be 2026-01-24 (execution_date + duration - 1)
+        Site site = createAndPersistSite(LocalDate.of(2026, 1, 20));
+        site.setName("Construction Site");
+        site.setDurationInDays(5);
+        entityManager.merge(site);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Query date: 2026-01-24 (the last day of the site)
+        LocalDate queryDate = LocalDate.of(2026, 1, 24);
+
+        // When - send GET request to get day overview
+        mockMvc.perform(get("/planning/day")
+                        .queryParam("date", queryDate.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2026-01-24"))
+                .andExpect(jsonPath("$.plannedSites.length()").value(1))
+                .andExpect(jsonPath("$.plannedSites[0].site_id").value(site.getId()))
+                .andExpect(jsonPath("$.plannedSites[0].end_date").value("2026-01-24"))
+                .andExpect(jsonPath("$.plannedSites[0].days_remaining").value(1));
+    }
+
+    @Test
+    void shouldOnlyReturnSiteOnItsNewDaysWhenItIsRescheduled() throws Exception {
+        // Given - a site from 2027-03-01 until 2027-03-05, moved to 2027-03-10 until 2027-03-14
+        Site site = createAndPersistSite(LocalDate.of(2027, 3, 1));
+        mockMvc.perform(patch("/planning/sites/" + site.getId())
+                        .queryParam("date", "2027-03-10"))
+                .andExpect(status().isNoContent());
+
+        // When / Then - the old days are free, the new days hold the site
+        mockMvc.perform(get("/planning/day")
+                        .queryParam("date", "2027-03-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plannedSites.length()").value(0));
+        mockMvc.perform(get("/planning/day")
+                        .queryParam("date", "2027-03-14"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plannedSites.length()").value(1))
+                .andExpect(jsonPath("$.plannedSites[0].site_id").value(site.getId()))
+                .andExpect(jsonPath("$.plannedSites[0].days_remaining").value(1));
+    }
+
+    @Test
+    void shouldNotReturnSiteOnItsDaysOnceItIsDone() throws Exception {
+        // Given - a site from 2027-03-01 until 2027-03-05 that gets finished
+        Site site = createAndPersistSite(LocalDate.of(2027, 3, 1));
+        site.setStatus(SiteStatus.DONE);
+        entityManager.merge(site);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When / Then
+        mockMvc.perform(get("/planning/day")
+                        .queryParam("date", "2027-03-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plannedSites.length()").value(0));
+    }
+
     @ParameterizedTest
     @MethodSource("invalidIsoDateFormats")
     void shouldReturnBadRequestWhenDateIsNotInIsoFormat(String invalidDate) throws Exception {
@@ -669,7 +992,7 @@ class PlanningApiIntegrationTest {
         entityManager.persist(worker);
         entityManager.flush();
 
-        site1.setWorkers(List.of(worker));
+        site1.setWorkers(Set.of(worker));
         entityManager.merge(site1);
 
         // Site 2: execution date 2026-02-10, duration 3 days (ends 2026-02-13)
@@ -707,6 +1030,64 @@ class PlanningApiIntegrationTest {
                 .andExpect(jsonPath("$.plannedSites[0].workers[0].worker_lastname").value("Smith"));
     }
 
+    @Test
+    void shouldReturnDayOverviewForEveryDayInRange() throws Exception {
+        // Given - site 1 from 2026-01-20 until 2026-01-22 with a worker, site 2 from 2026-01-22 until 2026-01-26
+        Site site1 = createAndPersistSite(LocalDate.of(2026, 1, 20));
+        site1.setName("Downtown Office Complex");
+        site1.setDurationInDays(3);
+
+        Worker worker = new Worker("John", "Smith");
+        entityManager.persist(worker);
+        entityManager.flush();
+
+        site1.setWorkers(Set.of(worker));
+        entityManager.merge(site1);
+
+        Site site2 = createAndPersistSite(LocalDate.of(2026, 1, 22));
+        site2.setName("Harbor Warehouse");
+        entityManager.merge(site2);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // When - send GET request for 2026-01-19 until 2026-01-22
+        mockMvc.perform(get("/planning/days")
+                        .queryParam("from", "2026-01-19")
+                        .queryParam("until", "2026-01-22"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                // 2026-01-19 - nothing planned yet
+                .andExpect(jsonPath("$[0].date").value("2026-01-19"))
+                .andExpect(jsonPath("$[0].plannedSites.length()").value(0))
+                // 2026-01-20 - first day of site 1
+                .andExpect(jsonPath("$[1].date").value("2026-01-20"))
+                .andExpect(jsonPath("$[1].plannedSites.length()").value(1))
+                .andExpect(jsonPath("$[1].plannedSites[0].site_id").value(site1.getId()))
+                .andExpect(jsonPath("$[1].plannedSites[0].days_remaining").value(3))
+                .andExpect(jsonPath("$[1].plannedSites[0].workers[0].worker_id").value(worker.getId()))
+                // 2026-01-21 - site 1 only
+                .andExpect(jsonPath("$[2].date").value("2026-01-21"))
+                .andExpect(jsonPath("$[2].plannedSites.length()").value(1))
+                .andExpect(jsonPath("$[2].plannedSites[0].days_remaining").value(2))
+                // 2026-01-22 - last day of site 1, first day of site 2
+                .andExpect(jsonPath("$[3].date").value("2026-01-22"))
+                .andExpect(jsonPath("$[3].plannedSites.length()").value(2))
+                .andExpect(jsonPath("$[3].plannedSites[0].site_id").value(site1.getId()))
+                .andExpect(jsonPath("$[3].plannedSites[0].days_remaining").value(1))
+                .andExpect(jsonPath("$[3].plannedSites[1].site_id").value(site2.getId()))
+                .andExpect(jsonPath("$[3].plannedSites[1].workers").isEmpty());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenDayOverviewsUntilDateIsBeforeFromDate() throws Exception {
+        // When / Then - send GET request with until before from
+        mockMvc.perform(get("/planning/days")
+                        .queryParam("from", "2026-01-22")
+                        .queryParam("until", "2026-01-19"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturnIdleWorkersWhenSomeWorkersAreNotAssignedToAnySite() throws Exception {
         // Given - create three workers
@@ -721,7 +1102,7 @@ class PlanningApiIntegrationTest {
         // Create an OPEN site with execution date 2026-01-20 and duration 5 days (ends 2026-01-24)
         Site site = createAndPersistSite(LocalDate.of(2026, 1, 20));
         site.setDurationInDays(5);
-        site.setWorkers(List.of(assignedWorker));
+        site.setWorkers(Set.of(assignedWorker));
         entityManager.merge(site);
         entityManager.flush();
         entityManager.clear();
@@ -755,6 +1136,64 @@ class PlanningApiIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void shouldReturnFreeAndBusyPeriodsPerWorkerWhenAvailabilityIsRequestedForRange() throws Exception {
+        // Given - one worker on two overlapping sites and a done site, one worker without sites
+        Worker busyWorker = new Worker("Alice", "Busy");
+        Worker freeWorker = new Worker("Bob", "Free");
+        entityManager.persist(busyWorker);
+        entityManager.persist(freeWorker);
+        entityManager.flush();
+
+        Site firstSite = createAndPersistSite(LocalDate.of(2026, 1, 5));
+        firstSite.setWorkers(Set.of(busyWorker));
+        entityManager.merge(firstSite);
+
+        Site secondSite = createAndPersistSite(LocalDate.of(2026, 1, 8));
+        secondSite.setWorkers(Set.of(busyWorker));
+        entityManager.merge(secondSite);
+
+        Site doneSite = createAndPersistSite(LocalDate.of(2026, 1, 20));
+        doneSite.setStatus(SiteStatus.DONE);
+        doneSite.setWorkers(Set.of(busyWorker));
+        entityManager.merge(doneSite);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When / Then - the two open sites (5..9 and 8..12) form one busy period, the done site is ignored
+        mockMvc.perform(get("/planning/workers/availability")
+                        .queryParam("from", "2026-01-01")
+                        .queryParam("until", "2026-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2026-01-01"))
+                .andExpect(jsonPath("$.until").value("2026-01-31"))
+                .andExpect(jsonPath("$.workers.length()").value(2))
+                .andExpect(jsonPath("$.workers[0].id").value(busyWorker.getId()))
+                .andExpect(jsonPath("$.workers[0].periods.length()").value(3))
+                .andExpect(jsonPath("$.workers[0].periods[0].status").value("FREE"))
+                .andExpect(jsonPath("$.workers[0].periods[0].until").value("2026-01-04"))
+                .andExpect(jsonPath("$.workers[0].periods[1].status").value("BUSY"))
+                .andExpect(jsonPath("$.workers[0].periods[1].from").value("2026-01-05"))
+                .andExpect(jsonPath("$.workers[0].periods[1].until").value("2026-01-12"))
+                .andExpect(jsonPath("$.workers[0].periods[1].site_ids.length()").value(2))
+                .andExpect(jsonPath("$.workers[0].periods[2].status").value("FREE"))
+                .andExpect(jsonPath("$.workers[0].periods[2].from").value("2026-01-13"))
+                .andExpect(jsonPath("$.workers[1].id").value(freeWorker.getId()))
+                .andExpect(jsonPath("$.workers[1].periods.length()").value(1))
+                .andExpect(jsonPath("$.workers[1].periods[0].status").value("FREE"))
+                .andExpect(jsonPath("$.workers[1].periods[0].from").value("2026-01-01"))
+                .andExpect(jsonPath("$.workers[1].periods[0].until").value("2026-01-31"));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenAvailabilityUntilDateIsBeforeFromDate() throws Exception {
+        // When / Then - send GET request with until before from
+        mockMvc.perform(get("/planning/workers/availability")
+                        .queryParam("from", "2026-01-22")
+                        .queryParam("until", "2026-01-19"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturnMonthlyOverviewWithPlannedSitesGroupedByWeekForCurrentAndNext2Months() throws Exception {
         // Given - create sites and plan them in a week clearly within each month
@@ -827,6 +1266,94 @@ class PlanningApiIntegrationTest {
         assertThat(count).isEqualTo(1L);
     }
 
+    @Test
+    void shouldKeepOneRowWhenSiteIsPlannedInSameWeekTwice() throws Exception {
+        // Given - a site and a request for a week next year
+        Site site = createAndPersistSite(null);
+        String requestBody = """
+                { "week": 15, "year": 2027, "site_id": %d }
+                """.formatted(site.getId());
+
+        // When - the same request is sent twice
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(put("/planning/monthly")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestBody))
+                    .andExpect(status().isCreated());
+        }
+
+        // Then
+        assertThat(countSiteWeekPlanning(site.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldPlanEverySiteInEveryWeekWhenBatchIsRequested() throws Exception {
+        // Given - two sites, the first one already planned in week 10 of 2027
+        Site firstSite = createAndPersistSite(null);
+        Site secondSite = createAndPersistSite(null);
+        entityManager.createNativeQuery("INSERT INTO site_week_planning (week, year, site_id) VALUES (10, 2027, :siteId)")
+                .setParameter("siteId", firstSite.getId())
+                .executeUpdate();
+
+        String requestBody = """
+                {
+                  "site_ids": [%d, %d],
+                  "weeks": [
+                    { "week": 10, "year": 2027 },
+                    { "week": 11, "year": 2027 },
+                    { "week": 12, "year": 2027 }
+                  ]
+                }
+                """.formatted(firstSite.getId(), secondSite.getId());
+
+        // When
+        mockMvc.perform(put("/planning/monthly/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isCreated());
+
+        // Then - three weeks per site, the week that was already planned is not duplicated
+        assertThat(countSiteWeekPlanning(firstSite.getId())).isEqualTo(3L);
+        assertThat(countSiteWeekPlanning(secondSite.getId())).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldPlanNothingWhenBatchContainsUnknownSite() throws Exception {
+        // Given - one existing site and one that does not exist
+        Site site = createAndPersistSite(null);
+        String requestBody = """
+                { "site_ids": [%d, 99999], "weeks": [{ "week": 10, "year": 2027 }] }
+                """.formatted(site.getId());
+
+        // When / Then
+        mockMvc.perform(put("/planning/monthly/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isNotFound());
+        assertThat(countSiteWeekPlanning(site.getId())).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{ \"weeks\": [{ \"week\": 10, \"year\": 2027 }] }",
+            "{ \"site_ids\": [1], \"weeks\": [] }",
+            "{ \"site_ids\": [1], \"weeks\": [{ \"week\": 54, \"year\": 2027 }] }",
+            "{ \"site_ids\": [1], \"weeks\": [{ \"week\": 10, \"year\": 2027 }, { \"week\": 1, \"year\": 2020 }] }"
+    })
+    void shouldReturnBadRequestWhenBatchPlanningRequestIsInvalid(String requestBody) throws Exception {
+        mockMvc.perform(put("/planning/monthly/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long countSiteWeekPlanning(Long siteId) {
+        return (Long) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM site_week_planning WHERE site_id = :siteId", Long.class)
+                .setParameter("siteId", siteId)
+                .getSingleResult();
+    }
+
     @Test
     void shouldReturnNotFoundWhenSiteDoesNotExist() throws Exception {
         // Given - a site id that does not exist
@@ -0,0 +1,64 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlanningChunkTest {
+
+    @Test
+    void shouldReturnSingleChunkWhenRangeFitsInOneChunk() {
+        // Given - wednesday until the sunday two weeks later
+        LocalDate from = LocalDate.of(2026, 1, 21);
+        LocalDate until = LocalDate.of(2026, 2, 8);
+
+        // When
+        List<PlanningChunk> chunks = PlanningChunk.split(from, until, 8);
+
+        // Then
+        assertThat(chunks).containsExactly(new PlanningChunk(from, until));
+    }
+
+    @Test
+    void shouldSplitOnWeekBoundariesWhenRangeSpansMultipleChunks() {
+        // Given - wednesday until a thursday five weeks later
+        LocalDate from = LocalDate.of(2026, 1, 21);
+        LocalDate until = LocalDate.of(2026, 2, 26);
+
+        // When
+        List<PlanningChunk> chunks = PlanningChunk.split(from, until, 2);
+
+        // Then - every chunk after the first starts on a monday and every chunk but the last ends on a sunday
+        assertThat(chunks).containsExactly(
+                new PlanningChunk(LocalDate.of(2026, 1, 21), LocalDate.of(2026, 2, 1)),
+                new PlanningChunk(LocalDate.of(2026, 2, 2), LocalDate.of(2026, 2, 15)),
+                new PlanningChunk(LocalDate.of(2026, 2, 16), LocalDate.of(2026, 2, 26))
+        );
+    }
+
+    @Test
+    void shouldReturnSingleDayChunkWhenFromEqualsUntil() {
+        // Given
+        LocalDate day = LocalDate.of(2026, 1, 25);
+
+        // When
+        List<PlanningChunk> chunks = PlanningChunk.split(day, day, 8);
+
+        // Then
+        assertThat(chunks).containsExactly(new PlanningChunk(day, day));
+    }
+
+    @Test
+    void shouldRejectChunksWithoutWeeks() {
+        // Given - a range starting on a monday, where a chunk of 0 weeks would end before it starts
+        LocalDate monday = LocalDate.of(2026, 1, 19);
+
+        // When / Then
+        assertThatThrownBy(() -> PlanningChunk.split(monday, monday.plusWeeks(4), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
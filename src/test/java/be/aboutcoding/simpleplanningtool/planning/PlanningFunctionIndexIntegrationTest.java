@@ -0,0 +1,88 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that every planning function can be answered from indexes. The test tables are nearly empty, so a
+ * sequential scan would always be cheapest; turning those off shows the plan PostgreSQL picks once the tables grow.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PlanningFunctionIndexIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void disableSequentialScans() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @ParameterizedTest
+    @MethodSource("planningFunctions")
+    void shouldUseIndexesWhenPlanningFunctionIsQueried(String function, List<String> expectedIndexes) {
+        // When
+        String plan = explain("SELECT * FROM " + function);
+
+        // Then
+        assertThat(plan).doesNotContain("Seq Scan");
+        expectedIndexes.forEach(index -> assertThat(plan).contains(index));
+    }
+
+    @ParameterizedTest
+    @MethodSource("foreignKeyLookups")
+    void shouldUseIndexWhenLookingUpJoinTableByForeignKey(String query, String expectedIndex) {
+        // When
+        String plan = explain(query);
+
+        // Then
+        assertThat(plan).doesNotContain("Seq Scan");
+        assertThat(plan).contains(expectedIndex);
+    }
+
+    private static Stream<Arguments> planningFunctions() {
+        return Stream.of(
+                Arguments.of("get_planning(DATE '2026-01-01', DATE '2026-01-31')",
+                        List.of("idx_sites_execution_date")),
+                Arguments.of("get_planning_occupancy(DATE '2026-01-01', DATE '2026-01-31')",
+                        List.of("pk_site_days", "sites_pkey")),
+                Arguments.of("get_week_planning_overview()",
+                        List.of("idx_site_week_planning_year_week", "sites_pkey")),
+                Arguments.of("get_active_sites_on_date(DATE '2026-01-05')",
+                        List.of("pk_site_days", "sites_pkey", "site_workers_pkey", "workers_pkey")),
+                Arguments.of("get_active_sites_between(DATE '2026-01-01', DATE '2026-01-10')",
+                        List.of("pk_site_days", "sites_pkey", "site_workers_pkey", "workers_pkey")),
+                Arguments.of("get_worker_availability(DATE '2026-01-05')",
+                        List.of("pk_site_days", "site_workers_pkey")),
+                Arguments.of("get_worker_site_periods(DATE '2026-01-01', DATE '2026-01-31')",
+                        List.of("idx_sites_open_active_period", "site_workers_pkey"))
+        );
+    }
+
+    private static Stream<Arguments> foreignKeyLookups() {
+        return Stream.of(
+                Arguments.of("SELECT * FROM site_workers WHERE worker_id = 1", "idx_site_workers_worker_id"),
+                Arguments.of("SELECT * FROM site_week_planning WHERE site_id = 1", "uq_site_week_planning_site_year_week"),
+                Arguments.of("SELECT * FROM sites WHERE customer_id = 1", "idx_sites_customer_id"),
+                Arguments.of("SELECT * FROM site_days WHERE site_id = 1", "idx_site_days_site_id")
+        );
+    }
+
+    private String explain(String query) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query, String.class));
+    }
+}
@@ -0,0 +1,194 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.site.Customer;
+import be.aboutcoding.simpleplanningtool.site.Site;
+import be.aboutcoding.simpleplanningtool.site.SiteStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not transactional on purpose: the planning grid reads on its own connections, which only see committed data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PlanningGridIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanupDatabase() {
+        jdbcTemplate.update("DELETE FROM site_workers");
+        jdbcTemplate.update("DELETE FROM site_week_planning");
+        jdbcTemplate.update("DELETE FROM sites");
+        jdbcTemplate.update("DELETE FROM customers");
+    }
+
+
+    @Test
+    void shouldReturnPlanningWithWorkdaysWhenValidFromAndUntilDatesAreProvided() throws Exception {
+        // Given - create a site with execution date on Dec 2, 2026
+        Site site = createSite("Delhaize Waregem", LocalDate.of(2026, 12, 2));
+        persist(site);
+
+        Long siteId = site.getId();
+        LocalDate fromDate = LocalDate.of(2026, 12, 1);
+        LocalDate untilDate = LocalDate.of(2026, 12, 4);
+
+        // When - send GET request to get planning
+        mockMvc.perform(get("/planning")
+                        .queryParam("from", fromDate.toString())
+                        .queryParam("until", untilDate.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2026-12-01"))
+                .andExpect(jsonPath("$.until").value("2026-12-04"))
+                .andExpect(jsonPath("$.weeks").isArray())
+                .andExpect(jsonPath("$.weeks.length()").value(1))
+                // Week 49
+                .andExpect(jsonPath("$.weeks[0].week").value(49))
+                // Monday - Nov 30 - no sites
+                .andExpect(jsonPath("$.weeks[0].monday.date").value("2026-11-30"))
+                .andExpect(jsonPath("$.weeks[0].monday.sites").isEmpty())
+                // Tuesday - Dec 1 - no sites
+                .andExpect(jsonPath("$.weeks[0].tuesday.date").value("2026-12-01"))
+                .andExpect(jsonPath("$.weeks[0].tuesday.sites").isEmpty())
+                // Wednesday - Dec 2 - has the site
+                .andExpect(jsonPath("$.weeks[0].wednesday.date").value("2026-12-02"))
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites").isArray())
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites.length()").value(1))
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites[0].id").value(siteId))
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites[0].name").value("Delhaize Waregem"))
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites[0].duration_in_days").value(5))
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites[0].status").exists())
+                // Thursday - Dec 3 - no sites
+                .andExpect(jsonPath("$.weeks[0].thursday.date").value("2026-12-03"))
+                .andExpect(jsonPath("$.weeks[0].thursday.sites").isEmpty())
+                // Friday - Dec 4 - no sites
+                .andExpect(jsonPath("$.weeks[0].friday.date").value("2026-12-04"))
+                .andExpect(jsonPath("$.weeks[0].friday.sites").isEmpty())
+                // Saturday - Dec 5 - no sites
+                .andExpect(jsonPath("$.weeks[0].saturday.date").value("2026-12-05"))
+                .andExpect(jsonPath("$.weeks[0].saturday.sites").isEmpty())
+                // Sunday - Dec 6 - no sites
+                .andExpect(jsonPath("$.weeks[0].sunday.date").value("2026-12-06"))
+                .andExpect(jsonPath("$.weeks[0].sunday.sites").isEmpty());
+    }
+
+    @Test
+    void shouldStreamSamePlanningAsRegularPlanningEndpoint() throws Exception {
+        // Given - two sites in different weeks and one day with two sites
+        Site site1 = createSite("Test Site", LocalDate.of(2026, 12, 2));
+        Site site2 = createSite("Second Site", LocalDate.of(2026, 12, 2));
+        Site site3 = createSite("Test Site", LocalDate.of(2026, 12, 13));
+        site3.setStatus(SiteStatus.DONE);
+        persist(site1, site2, site3);
+
+        // When - request the same range from both endpoints
+        String expected = mockMvc.perform(get("/planning")
+                        .queryParam("from", "2026-12-01")
+                        .queryParam("until", "2026-12-14"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String streamed = mockMvc.perform(get("/planning/stream")
+                        .queryParam("from", "2026-12-01")
+                        .queryParam("until", "2026-12-14"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.weeks.length()").value(3))
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites.length()").value(2))
+                .andExpect(jsonPath("$.weeks[1].sunday.sites[0].id").value(site3.getId()))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Then
+        assertThat(streamed).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldReturnSiteOnEveryDayItOccupiesInOccupancyMode() throws Exception {
+        // Given - an open site of 5 days from Wednesday 2026-12-02 and a finished site on Thursday
+        Site site = createSite("Test Site", LocalDate.of(2026, 12, 2));
+        Site doneSite = createSite("Test Site", LocalDate.of(2026, 12, 3));
+        doneSite.setStatus(SiteStatus.DONE);
+        persist(site, doneSite);
+
+        // When - request the planning grid and the streamed grid in occupancy mode
+        String expected = mockMvc.perform(get("/planning")
+                        .queryParam("from", "2026-12-01")
+                        .queryParam("until", "2026-12-07")
+                        .queryParam("mode", "OCCUPANCY"))
+                .andExpect(status().isOk())
+                // Then - the open site is on Wednesday until Sunday, the finished site on no day
+                .andExpect(jsonPath("$.weeks.length()").value(2))
+                .andExpect(jsonPath("$.weeks[0].tuesday.sites").isEmpty())
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites.length()").value(1))
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites[0].id").value(site.getId()))
+                .andExpect(jsonPath("$.weeks[0].thursday.sites.length()").value(1))
+                .andExpect(jsonPath("$.weeks[0].thursday.sites[0].id").value(site.getId()))
+                .andExpect(jsonPath("$.weeks[0].sunday.sites[0].id").value(site.getId()))
+                .andExpect(jsonPath("$.weeks[1].monday.sites").isEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String streamed = mockMvc.perform(get("/planning/stream")
+                        .queryParam("from", "2026-12-01")
+                        .queryParam("until", "2026-12-07")
+                        .queryParam("mode", "OCCUPANCY"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(streamed).isEqualTo(expected);
+    }
+
+    private void persist(Site... sites) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Site site : sites) {
+                entityManager.persist(site);
+            }
+        });
+    }
+
+    private Site createSite(String name, LocalDate executionDate) {
+        Customer customer = new Customer();
+        customer.setName("Test Customer");
+        customer.setIsPrivate(false);
+
+        Site site = new Site(name, 5);
+        site.setCustomer(customer);
+        site.setExecutionDate(executionDate);
+        site.setCreationDate(Instant.now());
+        return site;
+    }
+}
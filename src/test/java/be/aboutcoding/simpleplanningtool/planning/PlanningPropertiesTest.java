@@ -0,0 +1,38 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanningPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PlanningPropertiesConfiguration.class);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"planning.range.max-days", "planning.range.chunk-weeks",
+            "planning.changes.max-subscribers", "planning.changes.queue-size"})
+    void shouldRefuseToStartWhenALimitIsBelowOne(String property) {
+        // When / Then
+        contextRunner.withPropertyValues(property + "=0")
+                .run(context -> assertThat(context).getFailure()
+                        .hasStackTraceContaining("must be greater than or equal to 1"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"planning.range.chunk-weeks", "planning.changes.queue-size"})
+    void shouldStartWhenALimitIsOne(String property) {
+        // When / Then
+        contextRunner.withPropertyValues(property + "=1")
+                .run(context -> assertThat(context).hasNotFailed().hasSingleBean(PlanningProperties.class));
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(PlanningProperties.class)
+    static class PlanningPropertiesConfiguration {
+    }
+}
@@ -0,0 +1,113 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import be.aboutcoding.simpleplanningtool.planning.dto.PlanningResponse;
+import be.aboutcoding.simpleplanningtool.planning.dto.WeekResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanningResponseMapperTest {
+
+    private final PlanningResponseMapper mapper = new PlanningResponseMapper();
+
+    @Test
+    void shouldPlaceSitesOnTheDayOfTheirDate() {
+        // Given - one week with a site on wednesday and two on sunday
+        LocalDate monday = LocalDate.of(2026, 1, 19);
+        List<PlanningDataProjection> rows = new ArrayList<>(emptyWeek(monday));
+        rows.set(2, row(monday.plusDays(2), 1L));
+        rows.set(6, row(monday.plusDays(6), 2L));
+        rows.add(row(monday.plusDays(6), 3L));
+
+        // When
+        PlanningResponse response = mapper.toResponse(monday, monday.plusDays(6), rows);
+
+        // Then
+        assertThat(response.weeks()).hasSize(1);
+        WeekResponse week = response.weeks().getFirst();
+        assertThat(week.week()).isEqualTo(4);
+        assertThat(week.monday().date()).isEqualTo(monday);
+        assertThat(week.monday().sites()).isEmpty();
+        assertThat(week.wednesday().sites()).extracting("id").containsExactly(1L);
+        assertThat(week.sunday().date()).isEqualTo(monday.plusDays(6));
+        assertThat(week.sunday().sites()).extracting("id").containsExactly(2L, 3L);
+    }
+
+    @Test
+    void shouldStartNewWeekOnEveryMondayAcrossYearBoundary() {
+        // Given - ISO week 53 of 2026 followed by week 1 of 2027
+        LocalDate monday = LocalDate.of(2026, 12, 28);
+        List<PlanningDataProjection> rows = new ArrayList<>(emptyWeek(monday));
+        rows.addAll(emptyWeek(monday.plusWeeks(1)));
+
+        // When
+        PlanningResponse response = mapper.toResponse(monday, monday.plusDays(13), rows);
+
+        // Then
+        assertThat(response.weeks()).extracting(WeekResponse::week).containsExactly(53, 1);
+        assertThat(response.weeks().get(1).monday().date()).isEqualTo(LocalDate.of(2027, 1, 4));
+        assertThat(response.weeks().get(1).sunday().date()).isEqualTo(LocalDate.of(2027, 1, 10));
+    }
+
+    @Test
+    void shouldReturnNoWeeksWhenThereAreNoRows() {
+        // Given
+        LocalDate from = LocalDate.of(2026, 1, 19);
+
+        // When
+        PlanningResponse response = mapper.toResponse(from, from, List.of());
+
+        // Then
+        assertThat(response.weeks()).isEmpty();
+    }
+
+    private List<PlanningDataProjection> emptyWeek(LocalDate monday) {
+        List<PlanningDataProjection> rows = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            rows.add(row(monday.plusDays(day), null));
+        }
+        return rows;
+    }
+
+    private PlanningDataProjection row(LocalDate date, Long siteId) {
+        return new PlanningRow(date, siteId);
+    }
+
+    private record PlanningRow(LocalDate date, Long siteId) implements PlanningDataProjection {
+
+        @Override
+        public LocalDate getWorkdayDate() {
+            return date;
+        }
+
+        @Override
+        public Integer getWeekNumber() {
+            return date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+        }
+
+        @Override
+        public Long getSiteId() {
+            return siteId;
+        }
+
+        @Override
+        public String getSiteName() {
+            return siteId == null ? null : "Site " + siteId;
+        }
+
+        @Override
+        public Integer getDurationInDays() {
+            return siteId == null ? null : 1;
+        }
+
+        @Override
+        public String getSiteStatus() {
+            return siteId == null ? null : "OPEN";
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package be.aboutcoding.simpleplanningtool.planning;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlanningStreamWriterTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 19);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldLeaveBodyIncompleteWhenQueryFailsHalfway() {
+        // Given - the connection breaks after the first day of the first week
+        JdbcTemplate failingJdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void query(PreparedStatementCreator creator, RowCallbackHandler handler) {
+                try {
+                    handler.processRow(emptyDay(MONDAY));
+                    handler.processRow(emptyDay(MONDAY.plusDays(1)));
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                throw new DataAccessResourceFailureException("Connection lost");
+            }
+        };
+        PlanningStreamWriter writer = new PlanningStreamWriter(failingJdbcTemplate, objectMapper);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        // When
+        assertThatThrownBy(() -> writer.write(MONDAY, MONDAY.plusDays(13), PlanningMode.START, body))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        // Then - what was written so far is sent, without closing the open week and arrays
+        String json = body.toString(StandardCharsets.UTF_8);
+        assertThat(json).contains("\"monday\"");
+        assertThatThrownBy(() -> objectMapper.readTree(json)).isInstanceOf(JacksonException.class);
+    }
+
+    // A get_planning row of a day without sites
+    private ResultSet emptyDay(LocalDate date) {
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getObject" -> date;
+                    case "getInt" -> 4;
+                    case "getLong" -> 0L;
+                    case "wasNull" -> true;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
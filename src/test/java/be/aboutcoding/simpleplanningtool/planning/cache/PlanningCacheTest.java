@@ -0,0 +1,121 @@
+package be.aboutcoding.simpleplanningtool.planning.cache;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import be.aboutcoding.simpleplanningtool.planning.PlanningProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanningCacheTest {
+
+    private static final LocalDate WEDNESDAY = LocalDate.of(2026, 1, 21);
+
+    @Test
+    void shouldOnlyLoadOnceForTheSameRegionAndPeriod() {
+        // Given
+        PlanningCache cache = createCache(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get("day-overview", WEDNESDAY, WEDNESDAY, loads::incrementAndGet);
+        Integer cached = cache.get("day-overview", WEDNESDAY, WEDNESDAY, loads::incrementAndGet);
+
+        // Then
+        assertThat(cached).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldOnlyEvictEntriesOverlappingWithTheChangedWeeks() {
+        // Given
+        PlanningCache cache = createCache(10);
+        cache.get("day-overview", WEDNESDAY, WEDNESDAY, () -> "wednesday");
+        cache.get("day-overview", WEDNESDAY.plusWeeks(1), WEDNESDAY.plusWeeks(1), () -> "next wednesday");
+        cache.get("planning", WEDNESDAY.minusWeeks(2), WEDNESDAY.minusDays(3), () -> "planning until friday");
+
+        // When - a change on the sunday of the same week
+        cache.evict(new PlanningChangedEvent(PlanningChangedEvent.Type.SITE_RESCHEDULED, WEDNESDAY.plusDays(4), WEDNESDAY.plusDays(4)));
+
+        // Then
+        assertThat(cache.get("day-overview", WEDNESDAY, WEDNESDAY, () -> "reloaded")).isEqualTo("reloaded");
+        assertThat(cache.get("day-overview", WEDNESDAY.plusWeeks(1), WEDNESDAY.plusWeeks(1), () -> "reloaded"))
+                .isEqualTo("next wednesday");
+        assertThat(cache.get("planning", WEDNESDAY.minusWeeks(2), WEDNESDAY.minusDays(3), () -> "reloaded"))
+                .isEqualTo("planning until friday");
+    }
+
+    @Test
+    void shouldEvictAllEntriesWhenEverythingChanged() {
+        // Given
+        PlanningCache cache = createCache(10);
+        cache.get("day-overview", WEDNESDAY, WEDNESDAY, () -> "wednesday");
+        cache.get("idle-workers", WEDNESDAY.plusYears(1), WEDNESDAY.plusYears(1), () -> "next year");
+
+        // When
+        cache.evict(PlanningChangedEvent.everything(PlanningChangedEvent.Type.SITE_CHANGED));
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldNotStoreValueLoadedWhileEntriesWereEvicted() {
+        // Given
+        PlanningCache cache = createCache(10);
+
+        // When - a change gets committed while the value is being loaded
+        cache.get("day-overview", WEDNESDAY, WEDNESDAY, () -> {
+            cache.evict(PlanningChangedEvent.everything(PlanningChangedEvent.Type.SITE_CHANGED));
+            return "stale";
+        });
+
+        // Then
+        assertThat(cache.get("day-overview", WEDNESDAY, WEDNESDAY, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        // Given
+        PlanningCache cache = createCache(2);
+        cache.get("day-overview", WEDNESDAY, WEDNESDAY, () -> "first");
+        cache.get("day-overview", WEDNESDAY.plusDays(1), WEDNESDAY.plusDays(1), () -> "second");
+        cache.get("day-overview", WEDNESDAY, WEDNESDAY, () -> "unused");
+
+        // When
+        cache.get("day-overview", WEDNESDAY.plusDays(2), WEDNESDAY.plusDays(2), () -> "third");
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("day-overview", WEDNESDAY, WEDNESDAY, () -> "reloaded")).isEqualTo("first");
+        assertThat(cache.get("day-overview", WEDNESDAY.plusDays(1), WEDNESDAY.plusDays(1), () -> "reloaded"))
+                .isEqualTo("reloaded");
+    }
+
+    @Test
+    void shouldAlwaysLoadWhenDisabled() {
+        // Given
+        PlanningCache cache = new PlanningCache(new PlanningProperties(
+                new PlanningProperties.Cache(false, 10), new PlanningProperties.Range(366, 8),
+                new PlanningProperties.Changes(10000, 64, Duration.ofSeconds(25), Duration.ofMinutes(30),
+                        Duration.ofSeconds(1), 1000)));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get("day-overview", WEDNESDAY, WEDNESDAY, loads::incrementAndGet);
+        cache.get("day-overview", WEDNESDAY, WEDNESDAY, loads::incrementAndGet);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    private PlanningCache createCache(int maxEntries) {
+        return new PlanningCache(new PlanningProperties(
+                new PlanningProperties.Cache(true, maxEntries), new PlanningProperties.Range(366, 8),
+                new PlanningProperties.Changes(10000, 64, Duration.ofSeconds(25), Duration.ofMinutes(30),
+                        Duration.ofSeconds(1), 1000)));
+    }
+}
@@ -0,0 +1,125 @@
+package be.aboutcoding.simpleplanningtool.planning.calendar;
+
+import be.aboutcoding.simpleplanningtool.planning.dto.AvailabilityPeriodDto;
+import be.aboutcoding.simpleplanningtool.planning.dto.WorkerCalendarResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkerCalendarMapperTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 2, 1);
+    private static final LocalDate UNTIL = LocalDate.of(2026, 2, 28);
+
+    private final WorkerCalendarMapper mapper = new WorkerCalendarMapper();
+
+    @Test
+    void shouldMergeOverlappingAndAdjacentSitesIntoOneBusyPeriod() {
+        // Given - sites on 3..6 and 5..8 overlap, 9..10 starts the day after, 20..22 stands alone
+        List<WorkerSitePeriodProjection> rows = List.of(
+                row(1L, 10L, 3, 6),
+                row(1L, 11L, 5, 8),
+                row(1L, 12L, 9, 10),
+                row(1L, 13L, 20, 22)
+        );
+
+        // When
+        WorkerCalendarResponse response = mapper.toResponse(FROM, UNTIL, rows);
+
+        // Then
+        assertThat(response.workers()).hasSize(1);
+        assertThat(response.workers().getFirst().periods()).containsExactly(
+                AvailabilityPeriodDto.free(day(1), day(2)),
+                AvailabilityPeriodDto.busy(day(3), day(10), List.of(10L, 11L, 12L)),
+                AvailabilityPeriodDto.free(day(11), day(19)),
+                AvailabilityPeriodDto.busy(day(20), day(22), List.of(13L)),
+                AvailabilityPeriodDto.free(day(23), UNTIL)
+        );
+    }
+
+    @Test
+    void shouldClipSitePeriodsToTheRequestedRange() {
+        // Given - one site started in january, another one runs into march
+        List<WorkerSitePeriodProjection> rows = List.of(
+                new Row(1L, 10L, LocalDate.of(2026, 1, 26), day(4)),
+                new Row(1L, 11L, day(16), LocalDate.of(2026, 3, 6))
+        );
+
+        // When
+        WorkerCalendarResponse response = mapper.toResponse(FROM, UNTIL, rows);
+
+        // Then
+        assertThat(response.workers().getFirst().periods()).containsExactly(
+                AvailabilityPeriodDto.busy(FROM, day(4), List.of(10L)),
+                AvailabilityPeriodDto.free(day(5), day(15)),
+                AvailabilityPeriodDto.busy(day(16), UNTIL, List.of(11L))
+        );
+    }
+
+    @Test
+    void shouldReturnWholeRangeAsFreeForWorkerWithoutSites() {
+        // Given - a worker without sites between two busy workers
+        List<WorkerSitePeriodProjection> rows = List.of(
+                row(1L, 10L, 1, 28),
+                new Row(2L, null, null, null),
+                row(3L, 10L, 1, 28)
+        );
+
+        // When
+        WorkerCalendarResponse response = mapper.toResponse(FROM, UNTIL, rows);
+
+        // Then
+        assertThat(response.workers()).hasSize(3);
+        assertThat(response.workers().get(0).periods())
+                .containsExactly(AvailabilityPeriodDto.busy(FROM, UNTIL, List.of(10L)));
+        assertThat(response.workers().get(1).periods())
+                .containsExactly(AvailabilityPeriodDto.free(FROM, UNTIL));
+        assertThat(response.workers().get(2).periods())
+                .containsExactly(AvailabilityPeriodDto.busy(FROM, UNTIL, List.of(10L)));
+    }
+
+    private static LocalDate day(int dayOfMonth) {
+        return FROM.withDayOfMonth(dayOfMonth);
+    }
+
+    private static Row row(Long workerId, Long siteId, int startDay, int endDay) {
+        return new Row(workerId, siteId, day(startDay), day(endDay));
+    }
+
+    private record Row(Long workerId, Long siteId, LocalDate start, LocalDate end)
+            implements WorkerSitePeriodProjection {
+
+        @Override
+        public Long getWorkerId() {
+            return workerId;
+        }
+
+        @Override
+        public String getWorkerFirstName() {
+            return "Worker";
+        }
+
+        @Override
+        public String getWorkerLastName() {
+            return "#" + workerId;
+        }
+
+        @Override
+        public Long getLinkedSiteId() {
+            return siteId;
+        }
+
+        @Override
+        public LocalDate getPeriodStart() {
+            return start;
+        }
+
+        @Override
+        public LocalDate getPeriodEnd() {
+            return end;
+        }
+    }
+}
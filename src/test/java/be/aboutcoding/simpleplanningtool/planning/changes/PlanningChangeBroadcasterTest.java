@@ -0,0 +1,207 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import be.aboutcoding.simpleplanningtool.planning.PlanningProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class PlanningChangeBroadcasterTest {
+
+    private static final Pattern EVENT = Pattern.compile("id:(\\d+)\nevent:(\\w+)");
+
+    @Test
+    void shouldRejectSubscribersBeyondTheMaximum() {
+        // Given
+        PlanningChangeBroadcaster broadcaster = new PlanningChangeBroadcaster(properties(1, 64, 1000));
+        broadcaster.subscribe(null);
+
+        // When / Then
+        assertThatThrownBy(() -> broadcaster.subscribe(null))
+                .isInstanceOf(TooManySubscribersException.class)
+                .hasMessage("The planning change stream already has 1 subscribers");
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNeverAcceptMoreThanTheMaximumWhenClientsSubscribeAtTheSameTime() throws Exception {
+        // Given
+        PlanningChangeBroadcaster broadcaster = new PlanningChangeBroadcaster(properties(10, 64, 1000));
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+
+        // When - 100 clients subscribe at once
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        broadcaster.subscribe(null);
+                        return true;
+                    } catch (TooManySubscribersException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        // Then
+        long accepted = 0;
+        for (Future<Boolean> attempt : attempts) {
+            accepted += attempt.get() ? 1 : 0;
+        }
+        assertThat(accepted).isEqualTo(10);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldDisconnectSubscriberThatFallsBehindAndFreeItsPlace() throws Exception {
+        // Given - the only subscriber, with room for one message, stops reading while the first message is sent
+        StalledEmitter stalled = new StalledEmitter();
+        PlanningChangeBroadcaster broadcaster = new PlanningChangeBroadcaster(properties(1, 1, 1000)) {
+            @Override
+            SseEmitter createEmitter() {
+                return stalled;
+            }
+        };
+        broadcaster.subscribe(null);
+        broadcaster.publish(message(1));
+        assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - the second message fills the queue and the third does not fit anymore
+        broadcaster.publish(message(2));
+        broadcaster.publish(message(3));
+
+        // Then - the stream is completed, so the client reconnects, and its place is free again
+        assertThat(stalled.completed).isTrue();
+        assertThat(broadcaster.subscriberCount()).isZero();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(stalled.interrupted).isTrue());
+        broadcaster.subscribe(null);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReplayTheChangesAfterTheLastEventIdBeforeNewOnes() {
+        // Given
+        RecordingEmitter recording = new RecordingEmitter();
+        PlanningChangeBroadcaster broadcaster = new PlanningChangeBroadcaster(properties(1, 64, 1000)) {
+            @Override
+            SseEmitter createEmitter() {
+                return recording;
+            }
+        };
+        broadcaster.replayableAfter(0);
+        broadcaster.publish(message(1));
+        broadcaster.publish(message(2));
+        broadcaster.publish(message(3));
+
+        // When - the client received change 1 before it reconnected
+        broadcaster.subscribe(1L);
+        broadcaster.publish(message(4));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(recording.events).containsExactly("2 SITE_PLANNED_FOR_WEEK", "3 SITE_PLANNED_FOR_WEEK",
+                        "4 SITE_PLANNED_FOR_WEEK"));
+    }
+
+    @Test
+    void shouldSendResetWhenTheMissedChangesAreNoLongerKept() {
+        // Given - only the last 2 changes are kept
+        RecordingEmitter recording = new RecordingEmitter();
+        PlanningChangeBroadcaster broadcaster = new PlanningChangeBroadcaster(properties(1, 64, 2)) {
+            @Override
+            SseEmitter createEmitter() {
+                return recording;
+            }
+        };
+        broadcaster.replayableAfter(0);
+        broadcaster.publish(message(1));
+        broadcaster.publish(message(2));
+        broadcaster.publish(message(3));
+
+        // When - the client missed change 1, which is no longer kept
+        broadcaster.subscribe(0L);
+
+        // Then - it continues from the last change after fetching its screens again
+        assertThat(recording.events).containsExactly("3 RESET");
+    }
+
+    private static PlanningChangeMessage message(long id) {
+        PlanningChangedEvent event = PlanningChangedEvent.forWeek(10, 2027);
+        return new PlanningChangeMessage(id, event.type(), event.from(), event.until());
+    }
+
+    private PlanningProperties properties(int maxSubscribers, int queueSize, int history) {
+        return new PlanningProperties(
+                new PlanningProperties.Cache(false, 10), new PlanningProperties.Range(366, 8),
+                new PlanningProperties.Changes(maxSubscribers, queueSize, Duration.ofSeconds(25), Duration.ofMinutes(30),
+                        Duration.ofSeconds(1), history));
+    }
+
+    /**
+     * Records the id and name of every event sent, heartbeats left out.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String text = builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .collect(Collectors.joining());
+            Matcher event = EVENT.matcher(text);
+            if (event.find()) {
+                events.add(event.group(1) + " " + event.group(2));
+            }
+        }
+    }
+
+    /**
+     * Blocks in the first send until the subscriber gets disconnected, like a client that stopped reading.
+     */
+    private static class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile boolean completed;
+        private volatile boolean interrupted;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "planning.changes.max-subscribers=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PlanningChangeStreamLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlanningChangeBroadcaster broadcaster;
+
+    @Test
+    void shouldReturnServiceUnavailableUntilTheOpenStreamIsClosed() throws Exception {
+        // Given - the only allowed stream is open
+        MvcResult stream = openStream();
+
+        // When / Then - the next client is asked to retry later
+        mockMvc.perform(get("/planning/changes/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+
+        // And - once the open stream is closed, a new one is accepted
+        stream.getRequest().getAsyncContext().complete();
+        await().atMost(Duration.ofSeconds(5)).until(() -> broadcaster.subscriberCount() == 0);
+        openStream().getRequest().getAsyncContext().complete();
+    }
+
+    private MvcResult openStream() throws Exception {
+        return mockMvc.perform(get("/planning/changes/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
@@ -0,0 +1,305 @@
+package be.aboutcoding.simpleplanningtool.planning.changes;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import be.aboutcoding.simpleplanningtool.site.Customer;
+import be.aboutcoding.simpleplanningtool.site.Site;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not transactional on purpose: changes are only recorded and pushed when they are committed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PlanningChangesApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlanningChangeBroadcaster broadcaster;
+
+    @Autowired
+    private PlanningEventOutbox planningEventOutbox;
+
+    @Autowired
+    private PlanningEventRepository planningEventRepository;
+
+    @Autowired
+    private PlanningEventFeed planningEventFeed;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<MvcResult> openStreams = new ArrayList<>();
+
+    @AfterEach
+    void closeStreams() {
+        openStreams.forEach(stream -> stream.getRequest().getAsyncContext().complete());
+        await().atMost(Duration.ofSeconds(5)).until(() -> broadcaster.subscriberCount() == 0);
+    }
+
+    @AfterEach
+    void cleanupDatabase() {
+        jdbcTemplate.update("DELETE FROM planning_events");
+        jdbcTemplate.update("DELETE FROM site_workers");
+        jdbcTemplate.update("DELETE FROM site_week_planning");
+        jdbcTemplate.update("DELETE FROM sites");
+        jdbcTemplate.update("DELETE FROM customers");
+        jdbcTemplate.update("DELETE FROM workers");
+    }
+
+    @Test
+    void shouldRecordCommittedChangeInTheFeed() throws Exception {
+        // Given - an unplanned site with a duration of 3 days
+        Site site = createSite("Feed Site");
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(site));
+        long since = lastRecordedId();
+
+        // When - the site gets planned
+        mockMvc.perform(patch("/planning/sites/" + site.getId())
+                        .queryParam("date", "2027-03-10"))
+                .andExpect(status().isNoContent());
+
+        // Then - the feed holds the change with the dates it affects
+        mockMvc.perform(get("/planning/changes")
+                        .queryParam("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].type").value("SITE_RESCHEDULED"))
+                .andExpect(jsonPath("$.changes[0].from").value("2027-03-10"))
+                .andExpect(jsonPath("$.changes[0].until").value("2027-03-12"))
+                .andExpect(jsonPath("$.next").value(lastRecordedId()));
+    }
+
+    @Test
+    void shouldRecordWorkerChangesInTheFeed() throws Exception {
+        // Given
+        long since = lastRecordedId();
+
+        // When - a worker is created, renamed and deleted
+        String workerId = mockMvc.perform(post("/workers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"first_name": "John", "last_name": "Doe"}
+                                """))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        mockMvc.perform(put("/workers/" + workerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"first_name": "Johnny", "last_name": "Doe"}
+                                """))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/workers/" + workerId))
+                .andExpect(status().isOk());
+
+        // Then - every change is in the feed and affects all dates
+        mockMvc.perform(get("/planning/changes")
+                        .queryParam("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(3))
+                .andExpect(jsonPath("$.changes[0].type").value("WORKER_CHANGED"))
+                .andExpect(jsonPath("$.changes[0].from").doesNotExist())
+                .andExpect(jsonPath("$.changes[1].type").value("WORKER_CHANGED"))
+                .andExpect(jsonPath("$.changes[2].type").value("WORKER_CHANGED"));
+    }
+
+    @Test
+    void shouldPageThroughRecordedChangesInOrder() throws Exception {
+        // Given - three recorded changes
+        long since = lastRecordedId();
+        transactionTemplate.executeWithoutResult(status -> {
+            planningEventOutbox.onPlanningChanged(PlanningChangedEvent.forWeek(10, 2027));
+            planningEventOutbox.onPlanningChanged(PlanningChangedEvent.forWeek(11, 2027));
+            planningEventOutbox.onPlanningChanged(
+                    PlanningChangedEvent.everything(PlanningChangedEvent.Type.WORKER_CHANGED));
+        });
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM planning_events WHERE id > ? ORDER BY id", Long.class, since);
+
+        // When - the first page holds two changes
+        mockMvc.perform(get("/planning/changes")
+                        .queryParam("since", String.valueOf(since))
+                        .queryParam("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].from").value("2027-03-08"))
+                .andExpect(jsonPath("$.changes[1].from").value("2027-03-15"))
+                .andExpect(jsonPath("$.next").value(ids.get(1)));
+
+        // Then - the next page starts after the last change of the first one
+        mockMvc.perform(get("/planning/changes")
+                        .queryParam("since", String.valueOf(ids.get(1)))
+                        .queryParam("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].type").value("WORKER_CHANGED"))
+                .andExpect(jsonPath("$.changes[0].from").doesNotExist())
+                .andExpect(jsonPath("$.next").value(ids.get(2)));
+    }
+
+    @Test
+    void shouldRejectChangesPublishedOutsideATransaction() {
+        // Given
+        long since = lastRecordedId();
+
+        // When / Then - neither the event nor a direct append can go unrecorded or be recorded on its own
+        assertThatThrownBy(() -> eventPublisher.publishEvent(PlanningChangedEvent.forWeek(10, 2027)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThatThrownBy(() -> planningEventRepository.append(
+                "SITE_PLANNED_FOR_WEEK", LocalDate.of(2027, 3, 8), LocalDate.of(2027, 3, 14)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(lastRecordedId()).isEqualTo(since);
+    }
+
+    @Test
+    void shouldKeepTheCursorWhenThereAreNoNewChanges() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/planning/changes")
+                        .queryParam("since", "42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(0))
+                .andExpect(jsonPath("$.next").value(42));
+    }
+
+    @Test
+    void shouldPushCommittedChangesToOpenStreams() throws Exception {
+        // Given - an unplanned site with a duration of 3 days and two clients listening to the change stream
+        Site site = createSite("Stream Site");
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(site));
+        MvcResult first = openStream();
+        MvcResult second = openStream();
+
+        // When - the site gets planned
+        mockMvc.perform(patch("/planning/sites/" + site.getId())
+                        .queryParam("date", "2027-03-10"))
+                .andExpect(status().isNoContent());
+
+        // Then - both clients receive the type and the affected dates
+        for (MvcResult stream : new MvcResult[]{first, second}) {
+            MockHttpServletResponse response = stream.getResponse();
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(response.getContentAsString())
+                    .contains("event:SITE_RESCHEDULED")
+                    .contains("\"type\":\"SITE_RESCHEDULED\"")
+                    .contains("\"from\":\"2027-03-10\"")
+                    .contains("\"until\":\"2027-03-12\""));
+            assertThat(response.getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        }
+    }
+
+    @Test
+    void shouldPushChangesRecordedByAnotherInstance() throws Exception {
+        // Given - a client listening to the change stream
+        MvcResult stream = openStream();
+
+        // When - another instance records a change, which publishes nothing here
+        transactionTemplate.executeWithoutResult(status -> planningEventRepository.append(
+                "SITE_PLANNED_FOR_WEEK", LocalDate.of(2027, 3, 8), LocalDate.of(2027, 3, 14)));
+        planningEventFeed.poll();
+
+        // Then - the client receives it with the id of the recorded change
+        MockHttpServletResponse response = stream.getResponse();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(response.getContentAsString())
+                .contains("id:" + lastRecordedId() + "\nevent:SITE_PLANNED_FOR_WEEK")
+                .contains("\"from\":\"2027-03-08\""));
+    }
+
+    @Test
+    void shouldReplayTheMissedChangesWhenAClientReconnects() throws Exception {
+        // Given - two recorded changes, the client only received the first one
+        transactionTemplate.executeWithoutResult(status -> {
+            planningEventOutbox.onPlanningChanged(PlanningChangedEvent.forWeek(10, 2027));
+            planningEventOutbox.onPlanningChanged(PlanningChangedEvent.forWeek(11, 2027));
+        });
+        planningEventFeed.poll();
+        long missed = lastRecordedId();
+        long received = missed - 1;
+
+        // When
+        MvcResult stream = openStream(received);
+
+        // Then - only the missed change is sent again
+        String content = stream.getResponse().getContentAsString();
+        assertThat(content)
+                .contains("id:" + missed + "\nevent:SITE_PLANNED_FOR_WEEK")
+                .contains("\"from\":\"2027-03-15\"")
+                .doesNotContain("id:" + received + "\n");
+    }
+
+    private MvcResult openStream() throws Exception {
+        return openStream(null);
+    }
+
+    private MvcResult openStream(Long lastEventId) throws Exception {
+        MockHttpServletRequestBuilder request = get("/planning/changes/stream").accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        MvcResult stream = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        openStreams.add(stream);
+        return stream;
+    }
+
+    private long lastRecordedId() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM planning_events", Long.class);
+    }
+
+    private Site createSite(String name) {
+        Customer customer = new Customer();
+        customer.setName(name + " Customer");
+        customer.setIsPrivate(false);
+
+        Site site = new Site(name, 3);
+        site.setCustomer(customer);
+        site.setCreationDate(Instant.now());
+        return site;
+    }
+}
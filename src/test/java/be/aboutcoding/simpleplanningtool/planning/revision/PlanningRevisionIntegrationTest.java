@@ -0,0 +1,141 @@
+package be.aboutcoding.simpleplanningtool.planning.revision;
+
+import be.aboutcoding.simpleplanningtool.planning.PlanningChangedEvent;
+import be.aboutcoding.simpleplanningtool.planning.cache.PlanningCache;
+import be.aboutcoding.simpleplanningtool.planning.changes.PlanningEventRepository;
+import be.aboutcoding.simpleplanningtool.site.Customer;
+import be.aboutcoding.simpleplanningtool.site.Site;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not transactional on purpose: the revision only follows committed changes.
+ */
+@SpringBootTest(properties = {"planning.cache.enabled=true", "planning.changes.poll-interval=100ms"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PlanningRevisionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlanningEventRepository planningEventRepository;
+
+    @Autowired
+    private PlanningCache planningCache;
+
+    @AfterEach
+    void cleanupDatabase() {
+        jdbcTemplate.update("DELETE FROM planning_events");
+        jdbcTemplate.update("DELETE FROM sites");
+        jdbcTemplate.update("DELETE FROM customers");
+
+        // Written around the listeners, so the cache does not know
+        planningCache.evict(PlanningChangedEvent.everything(PlanningChangedEvent.Type.SITE_CHANGED));
+    }
+
+    @Test
+    void shouldChangeETagRightAfterAChangeOfThisInstance() throws Exception {
+        // Given
+        Site site = createSite("Delhaize Waregem", LocalDate.of(2026, 12, 2));
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(site));
+        String etag = getPlanningWithSitesOnWednesday(1);
+
+        // When
+        mockMvc.perform(patch("/planning/sites/" + site.getId())
+                        .queryParam("date", "2026-12-09"))
+                .andExpect(status().isNoContent());
+
+        // Then - the next poll of the client already gets the new planning
+        String newEtag = mockMvc.perform(get("/planning")
+                        .queryParam("from", "2026-11-30")
+                        .queryParam("until", "2026-12-06")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites.length()").value(0))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    /**
+     * The change is written straight to the database, the way it looks to an instance that did not make it: no event
+     * reaches the listeners of this instance, only the recorded planning event.
+     */
+    @Test
+    void shouldChangeETagAndEvictCacheWhenAnotherInstanceRecordedAChange() throws Exception {
+        // Given - a cached planning with a site on wednesday
+        Site site = createSite("Delhaize Waregem", LocalDate.of(2026, 12, 2));
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(site));
+        String etag = getPlanningWithSitesOnWednesday(1);
+
+        // And - the site moved a week further, the cache does not know yet
+        jdbcTemplate.update("UPDATE sites SET execution_date = ? WHERE id = ?", LocalDate.of(2026, 12, 9), site.getId());
+        getPlanningWithSitesOnWednesday(1);
+
+        // When - the other instance records its change
+        transactionTemplate.executeWithoutResult(status -> planningEventRepository.append(
+                PlanningChangedEvent.Type.SITE_RESCHEDULED.name(), LocalDate.of(2026, 12, 2), LocalDate.of(2026, 12, 13)));
+
+        // Then - the background poll picks it up
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(mockMvc.perform(get("/planning")
+                        .queryParam("from", "2026-11-30")
+                        .queryParam("until", "2026-12-06"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag));
+        getPlanningWithSitesOnWednesday(0);
+    }
+
+    private String getPlanningWithSitesOnWednesday(int sites) throws Exception {
+        return mockMvc.perform(get("/planning")
+                        .queryParam("from", "2026-11-30")
+                        .queryParam("until", "2026-12-06"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.weeks[0].wednesday.sites.length()").value(sites))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+
+    private Site createSite(String name, LocalDate executionDate) {
+        Customer customer = new Customer();
+        customer.setName("Test Customer");
+        customer.setIsPrivate(false);
+
+        Site site = new Site(name, 5);
+        site.setCustomer(customer);
+        site.setExecutionDate(executionDate);
+        site.setCreationDate(Instant.now());
+        return site;
+    }
+}
@@ -2,9 +2,12 @@ package be.aboutcoding.simpleplanningtool.site;
 
 import be.aboutcoding.simpleplanningtool.worker.Worker;
 import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -18,6 +21,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +29,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -184,7 +189,7 @@ class SiteApiIntegrationTest {
         site.setCreationDate(Instant.parse("2025-12-01T10:30:00.000Z"));
         site.setDurationInDays(7);
         site.setTransport("Truck and Crane");
-        site.setWorkers(List.of(worker1, worker2));
+        site.setWorkers(Set.of(worker1, worker2));
         site.setStatus(SiteStatus.OPEN);
 
         entityManager.persist(worker1);
@@ -229,6 +234,188 @@ class SiteApiIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldFetchSiteWithCustomerAndWorkersInOneStatement() throws Exception {
+        // Given - a site with a customer and two workers
+        Worker worker1 = new Worker("Jane", "Workhard");
+        Worker worker2 = new Worker("John", "Builder");
+        entityManager.persist(worker1);
+        entityManager.persist(worker2);
+
+        Site site = createSite("Construction Site A", "Acme Corporation", LocalDate.of(2026, Month.JANUARY, 15));
+        site.setWorkers(Set.of(worker1, worker2));
+        entityManager.persist(site);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // When - send GET request
+        mockMvc.perform(get("/sites/" + site.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customer.customer_name").value("Acme Corporation"))
+                .andExpect(jsonPath("$.workers.length()").value(2));
+
+        // Then - the site, its customer and its workers are selected at once
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFetchOpenSitesWithCustomersInOneStatement() throws Exception {
+        // Given - three open sites, each with their own customer
+        entityManager.persist(createSite("Site A", "Customer A", null));
+        entityManager.persist(createSite("Site B", "Customer B", LocalDate.of(2026, Month.JANUARY, 15)));
+        entityManager.persist(createSite("Site C", "Customer C", null));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // When - send GET request to fetch all open sites
+        mockMvc.perform(get("/sites/open"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[2].customer_name").value("Customer C"));
+
+        // Then - no extra select per customer
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFetchUnplannedSitesWithCustomersInOneStatement() throws Exception {
+        // Given - two unplanned and one planned open site
+        entityManager.persist(createSite("Site A", "Customer A", null));
+        entityManager.persist(createSite("Site B", "Customer B", LocalDate.of(2026, Month.JANUARY, 15)));
+        entityManager.persist(createSite("Site C", "Customer C", null));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // When - send GET request to fetch unplanned sites
+        mockMvc.perform(get("/sites/unplanned"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        // Then - no extra select per customer
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnOpenSitesPageByPageWhenLimitIsProvided() throws Exception {
+        // Given - three open sites created one after the other
+        Site first = createSite("Site A", "Customer A", null);
+        first.setCreationDate(Instant.parse("2025-12-01T10:00:00Z"));
+        Site second = createSite("Site B", "Customer B", LocalDate.of(2026, Month.JANUARY, 15));
+        second.setCreationDate(Instant.parse("2025-12-02T10:00:00Z"));
+        Site third = createSite("Site C", "Customer C", null);
+        third.setCreationDate(Instant.parse("2025-12-03T10:00:00Z"));
+        entityManager.persist(third);
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When - fetch the first page of two sites
+        String nextCursor = mockMvc.perform(get("/sites/open")
+                        .queryParam("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(first.getId()))
+                .andExpect(jsonPath("$[1].id").value(second.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(SiteApi.NEXT_CURSOR_HEADER);
+
+        // Then - the next page holds the remaining site and has no next cursor
+        assertThat(nextCursor).isNotNull();
+        mockMvc.perform(get("/sites/open")
+                        .queryParam("after", nextCursor)
+                        .queryParam("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(third.getId()))
+                .andExpect(header().doesNotExist(SiteApi.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void shouldReturnAllOpenSitesWhenNoCursorOrLimitIsProvided() throws Exception {
+        // Given - more open sites than fit on a default page
+        for (int i = 0; i < 101; i++) {
+            entityManager.persist(createSite("Site " + i, "Customer " + i, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When / Then - clients that do not page keep getting the whole list
+        mockMvc.perform(get("/sites/open"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(101))
+                .andExpect(header().doesNotExist(SiteApi.NEXT_CURSOR_HEADER));
+        mockMvc.perform(get("/sites/unplanned"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(101))
+                .andExpect(header().doesNotExist(SiteApi.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void shouldReturnUnplannedSitesPageByPageWhenLimitIsProvided() throws Exception {
+        // Given - two unplanned sites with a planned site created in between
+        Site first = createSite("Site A", "Customer A", null);
+        first.setCreationDate(Instant.parse("2025-12-01T10:00:00Z"));
+        Site planned = createSite("Site B", "Customer B", LocalDate.of(2026, Month.JANUARY, 15));
+        planned.setCreationDate(Instant.parse("2025-12-02T10:00:00Z"));
+        Site second = createSite("Site C", "Customer C", null);
+        second.setCreationDate(Instant.parse("2025-12-03T10:00:00Z"));
+        entityManager.persist(first);
+        entityManager.persist(planned);
+        entityManager.persist(second);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When - fetch the first page of one site
+        String nextCursor = mockMvc.perform(get("/sites/unplanned")
+                        .queryParam("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(first.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(SiteApi.NEXT_CURSOR_HEADER);
+
+        // Then - the next page skips the planned site
+        mockMvc.perform(get("/sites/unplanned")
+                        .queryParam("after", nextCursor)
+                        .queryParam("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(second.getId()))
+                .andExpect(header().doesNotExist(SiteApi.NEXT_CURSOR_HEADER));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidPageParameters")
+    void shouldReturnBadRequestWhenPageParametersAreInvalid(String after, String limit) throws Exception {
+        // When / Then - send GET request with an invalid cursor or limit
+        mockMvc.perform(get("/sites/open")
+                        .queryParam("after", after)
+                        .queryParam("limit", limit))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static Stream<Arguments> invalidPageParameters() {
+        return Stream.of(
+                Arguments.of("not-a-cursor", "10"),
+                Arguments.of("bm90LWEtY3Vyc29y", "10"),     // Valid base64, but not a cursor
+                Arguments.of(null, "0"),
+                Arguments.of(null, "1001"),
+                Arguments.of(null, "not-a-number")
+        );
+    }
+
     @Test
     void shouldReturnOnlyOpenSitesWhenFetchingAllOpenSites() throws Exception {
         // Given - create two sites: one with status OPEN and one with status DONE
@@ -703,4 +890,22 @@ class SiteApiIntegrationTest {
                 """
         );
     }
+
+    private Site createSite(String name, String customerName, LocalDate executionDate) {
+        Customer customer = new Customer();
+        customer.setName(customerName);
+        customer.setIsPrivate(false);
+
+        Site site = new Site(name, 5);
+        site.setCustomer(customer);
+        site.setExecutionDate(executionDate);
+        site.setCreationDate(Instant.now());
+        return site;
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
 }
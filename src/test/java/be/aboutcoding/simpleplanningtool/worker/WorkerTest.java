@@ -2,6 +2,9 @@ package be.aboutcoding.simpleplanningtool.worker;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -34,4 +37,35 @@ class WorkerTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Last name is mandatory");
     }
+
+    @Test
+    void shouldBeEqualToWorkerWithSameIdOnly() {
+        // Given
+        Worker worker = new Worker("John", "Doe");
+        worker.setId(1L);
+        Worker renamed = new Worker("Johnny", "Doe");
+        renamed.setId(1L);
+        Worker other = new Worker("John", "Doe");
+        other.setId(2L);
+
+        // When / Then
+        assertThat(worker).isEqualTo(renamed).hasSameHashCodeAs(renamed);
+        assertThat(worker).isNotEqualTo(other);
+        assertThat(new Worker("John", "Doe")).isNotEqualTo(new Worker("John", "Doe"));
+    }
+
+    @Test
+    void shouldStayInSetWhenItGetsItsIdOrChanges() {
+        // Given
+        Worker worker = new Worker("John", "Doe");
+        Set<Worker> workers = new HashSet<>(Set.of(worker));
+
+        // When
+        worker.setId(1L);
+        worker.setLastName("Smith");
+
+        // Then
+        assertThat(workers).contains(worker);
+        assertThat(workers.remove(worker)).isTrue();
+    }
 }